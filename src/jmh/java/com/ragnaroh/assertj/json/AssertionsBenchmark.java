@@ -0,0 +1,120 @@
+package com.ragnaroh.assertj.json;
+
+import static com.ragnaroh.assertj.json.Assertions.assertThat;
+import static com.ragnaroh.assertj.json.Assertions.assertThatJson;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Benchmarks of the public assertion entry points. Run with {@code ./gradlew jmh}; the GC profiler is enabled in the
+ * build, so results include {@code gc.alloc.rate.norm} (bytes allocated per operation) next to throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AssertionsBenchmark {
+
+   @Param({ "1KB", "1MB", "100MB" })
+   public String size;
+
+   private String json;
+   private ObjectNode object;
+   private ArrayNode numbers;
+   private int[] expectedNumbers;
+   private LocalDateTime createdAt;
+   private ZonedDateTime zonedCreatedAt;
+   private Instant instant;
+   private JsonSpec spec;
+
+   @Setup
+   public void setUp() {
+      json = JsonDocuments.generate(JsonDocuments.parseSize(size));
+      object = ObjectReaders.readObjectNode(json);
+      numbers = (ArrayNode) object.get("numbers");
+      expectedNumbers = new int[numbers.size()];
+      for (int i = 0; i < expectedNumbers.length; i++) {
+         expectedNumbers[i] = numbers.get(i).intValue();
+      }
+      createdAt = LocalDateTime.parse(JsonDocuments.CREATED_AT);
+      zonedCreatedAt = ZonedDateTime.parse(JsonDocuments.ZONED_CREATED_AT);
+      instant = Instant.parse(JsonDocuments.INSTANT);
+      spec = JsonSpec.builder()
+                     .contains("id", 1)
+                     .contains("name", JsonDocuments.NAME)
+                     .containsNumber("amount", "12.5")
+                     .contains("active", true)
+                     .containsArray("numbers")
+                     .build();
+   }
+
+   @Benchmark
+   public Object assertThatJsonParse() {
+      return assertThatJson(json);
+   }
+
+   @Benchmark
+   public Object containsString() {
+      return assertThat(object).contains("name", JsonDocuments.NAME);
+   }
+
+   @Benchmark
+   public Object containsInt() {
+      return assertThat(object).contains("id", 1);
+   }
+
+   @Benchmark
+   public Object containsExactlyInts() {
+      return assertThat(numbers).containsExactly(expectedNumbers);
+   }
+
+   @Benchmark
+   public Object asIntArray() {
+      return assertThat(numbers).asIntArray();
+   }
+
+   @Benchmark
+   public Object isEqualToString() {
+      return assertThat(object).isEqualTo(json);
+   }
+
+   @Benchmark
+   public Object atPointer() {
+      return assertThat(object).at("/items/0/price");
+   }
+
+   @Benchmark
+   public boolean specMatches() {
+      return spec.matches(object);
+   }
+
+   @Benchmark
+   public Object containsLocalDateTime() {
+      return assertThat(object).contains("createdAt", createdAt);
+   }
+
+   @Benchmark
+   public Object containsZonedDateTime() {
+      return assertThat(object).contains("zonedCreatedAt", zonedCreatedAt);
+   }
+
+   @Benchmark
+   public Object containsInstant() {
+      return assertThat(object).contains("instant", instant);
+   }
+
+}
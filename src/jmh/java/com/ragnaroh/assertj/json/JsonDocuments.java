@@ -0,0 +1,59 @@
+package com.ragnaroh.assertj.json;
+
+import java.util.Random;
+
+/**
+ * Generates benchmark documents of a given approximate size. Documents are deterministic for a given size.
+ */
+final class JsonDocuments {
+
+   static final String NAME = "benchmark";
+   static final String CREATED_AT = "2021-06-06T10:11:12";
+   static final String ZONED_CREATED_AT = "2021-06-06T10:11:12+02:00";
+   static final String INSTANT = "2021-06-06T08:11:12Z";
+
+   private JsonDocuments() {}
+
+   static int parseSize(String size) {
+      if (size.endsWith("MB")) {
+         return Integer.parseInt(size.substring(0, size.length() - 2)) * 1024 * 1024;
+      }
+      if (size.endsWith("KB")) {
+         return Integer.parseInt(size.substring(0, size.length() - 2)) * 1024;
+      }
+      return Integer.parseInt(size);
+   }
+
+   /**
+    * Returns a JSON object of roughly the given size in bytes. Half of the size is spent on an integer array
+    * ("numbers") and half on an array of objects ("items").
+    */
+   static String generate(int targetSize) {
+      Random random = new Random(targetSize);
+      StringBuilder json = new StringBuilder(targetSize + 256);
+      json.append("{\"id\":1,\"name\":\"").append(NAME).append('"');
+      json.append(",\"createdAt\":\"").append(CREATED_AT).append('"');
+      json.append(",\"zonedCreatedAt\":\"").append(ZONED_CREATED_AT).append('"');
+      json.append(",\"instant\":\"").append(INSTANT).append('"');
+      json.append(",\"amount\":12.5,\"active\":true,\"numbers\":[");
+      int numbersEnd = json.length() + targetSize / 2;
+      for (int i = 0; json.length() < numbersEnd; i++) {
+         if (i > 0) {
+            json.append(',');
+         }
+         json.append(random.nextInt(1_000_000));
+      }
+      json.append("],\"items\":[");
+      for (int i = 0; json.length() < targetSize; i++) {
+         if (i > 0) {
+            json.append(',');
+         }
+         json.append("{\"id\":").append(i);
+         json.append(",\"code\":\"").append(Integer.toHexString(random.nextInt())).append('"');
+         json.append(",\"price\":").append(random.nextInt(100_000) / 100.0);
+         json.append(",\"available\":").append(random.nextBoolean()).append('}');
+      }
+      return json.append("]}").toString();
+   }
+
+}
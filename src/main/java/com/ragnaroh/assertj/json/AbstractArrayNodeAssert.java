@@ -3,17 +3,23 @@ package com.ragnaroh.assertj.json;
 import static java.util.Objects.requireNonNull;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import org.assertj.core.api.BooleanArrayAssert;
 import org.assertj.core.api.DoubleArrayAssert;
 import org.assertj.core.api.IntArrayAssert;
+import org.assertj.core.api.LongArrayAssert;
 import org.assertj.core.api.ObjectArrayAssert;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -21,56 +27,146 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 public abstract class AbstractArrayNodeAssert<SELF extends AbstractArrayNodeAssert<SELF>>
       extends AbstractJsonAssert<SELF, ArrayNode> {
 
+   private int parallelism;
+   private int chunkSize;
+
    protected AbstractArrayNodeAssert(String actual, Class<SELF> selfType) {
-      this(toArrayNode(actual), selfType);
+      this(ObjectReaders.readArrayNode(actual), selfType);
    }
 
    protected AbstractArrayNodeAssert(ArrayNode actual, Class<SELF> selfType) {
       super(actual, selfType);
    }
 
-   private static ArrayNode toArrayNode(String json) {
-      try {
-         return new ObjectMapper().readValue(json, ArrayNode.class);
-      } catch (JsonProcessingException e) {
-         throw new IllegalArgumentException("Could not parse actual value as JSON array node: " + e.getMessage());
-      }
-   }
-
    public SELF isEmpty() {
-      isNotNull();
-      if (actual.size() != 0) {
-         failWithMessage("Expected empty array, had size <%d>", actual.size());
-      }
-      return myself;
+      return check(ArrayChecks.isEmpty());
    }
 
    public SELF hasSize(int expectedSize) {
-      isNotNull();
-      if (actual.size() != expectedSize) {
-         failWithMessage("Expected array size <%d>, was <%d>", expectedSize, actual.size());
+      return check(ArrayChecks.hasSize(expectedSize));
+   }
+
+   /**
+    * Evaluates the element requirements of the {@code contains*Satisfying} methods on all available processors,
+    * see {@link #inParallel(int, int)}.
+    */
+   public SELF inParallel() {
+      return inParallel(Runtime.getRuntime().availableProcessors(), ParallelElementEvaluation.DEFAULT_CHUNK_SIZE);
+   }
+
+   /**
+    * Evaluates the element requirements of the {@code contains*Satisfying} methods in chunks of the given size on a
+    * pool with the given parallelism. All elements are evaluated; a failure reports the element at the lowest
+    * failing position along with the number of failed elements.
+    * <p>
+    * Requirements given as a {@link Consumer} are called concurrently and must be thread-safe. Requirements given as
+    * a {@link Supplier} of consumers get one consumer per chunk, each used from a single thread. Asserts created by
+    * the requirements on pool threads are not seen by {@link #withDeepFieldTracking() deep field tracking}.
+    */
+   public SELF inParallel(int parallelism, int chunkSize) {
+      if (parallelism <= 0 || chunkSize <= 0) {
+         throw new IllegalArgumentException("Parallelism and chunk size must be positive");
       }
+      this.parallelism = parallelism;
+      this.chunkSize = chunkSize;
       return myself;
    }
 
    public SELF containsStringsSatisfying(Consumer<String> requirements) {
-      asStringArray().allSatisfy(requirements);
-      return myself;
+      requireNonNull(requirements);
+      return containsStringsSatisfying(() -> requirements);
+   }
+
+   public SELF containsStringsSatisfying(Supplier<? extends Consumer<String>> requirements) {
+      requireNonNull(requirements);
+      return elementsSatisfying(String.class, AbstractJsonAssert::toString, requirements);
    }
 
    public SELF containsNumbersSatisfying(Consumer<Number> requirements) {
-      asNumberArray().allSatisfy(requirements);
-      return myself;
+      requireNonNull(requirements);
+      return containsNumbersSatisfying(() -> requirements);
+   }
+
+   public SELF containsNumbersSatisfying(Supplier<? extends Consumer<Number>> requirements) {
+      requireNonNull(requirements);
+      return elementsSatisfying(Number.class, AbstractJsonAssert::toNumber, requirements);
    }
 
    public SELF containsObjectNodesSatisfying(Consumer<ObjectNode> requirements) {
-      asObjectNodeArray().allSatisfy(requirements);
-      return myself;
+      requireNonNull(requirements);
+      return containsObjectNodesSatisfying(() -> requirements);
+   }
+
+   public SELF containsObjectNodesSatisfying(Supplier<? extends Consumer<ObjectNode>> requirements) {
+      requireNonNull(requirements);
+      return elementsSatisfying(ObjectNode.class, AbstractJsonAssert::toObjectNode, requirements);
    }
 
    public SELF containsArrayNodesSatisfying(Consumer<ArrayNode> requirements) {
-      asArrayNodeArray().allSatisfy(requirements);
-      return myself;
+      requireNonNull(requirements);
+      return containsArrayNodesSatisfying(() -> requirements);
+   }
+
+   public SELF containsArrayNodesSatisfying(Supplier<? extends Consumer<ArrayNode>> requirements) {
+      requireNonNull(requirements);
+      return elementsSatisfying(ArrayNode.class, AbstractJsonAssert::toArrayNode, requirements);
+   }
+
+   private <T> SELF elementsSatisfying(Class<T> elementType,
+                                       Function<JsonNode, T> valueMapper,
+                                       Supplier<? extends Consumer<T>> requirements) {
+      if (parallelism == 0) {
+         AssertedFieldTracker tracker = configuration().tracker();
+         if (tracker != null) {
+            tracker.runAttached(() -> asObjectArray(elementType, valueMapper).allSatisfy(requirements.get()));
+         } else {
+            asObjectArray(elementType, valueMapper).allSatisfy(requirements.get());
+         }
+         return myself;
+      }
+      isNotNull();
+      ParallelElementEvaluation.Outcome outcome = ParallelElementEvaluation.evaluate(actual,
+                                                                                     valueMapper,
+                                                                                     requirements,
+                                                                                     parallelism,
+                                                                                     chunkSize);
+      if (outcome.isSuccess()) {
+         return myself;
+      }
+      if (outcome.firstError() == null) {
+         throw failure("%d of %d elements did not satisfy the requirements, first at array position %d: "
+                       + "expected %s, was <%s>",
+                       outcome.failureCount(),
+                       actual.size(),
+                       outcome.firstIndex(),
+                       elementType.getSimpleName(),
+                       outcome.firstElement());
+      }
+      throw failure("%d of %d elements did not satisfy the requirements, first at array position %d: %s",
+                    outcome.failureCount(),
+                    actual.size(),
+                    outcome.firstIndex(),
+                    outcome.firstError().getMessage());
+   }
+
+   public SELF containsStringsMatching(String regex) {
+      requireNonNull(regex);
+      return containsStringsMatching(Patterns.compile(regex));
+   }
+
+   public SELF containsStringsMatching(Pattern pattern) {
+      requireNonNull(pattern);
+      return check(ArrayChecks.containsStringsMatching(pattern));
+   }
+
+   public SELF containsNumbersMatching(String regex) {
+      requireNonNull(regex);
+      return containsNumbersMatching(Patterns.compile(regex));
+   }
+
+   public SELF containsNumbersMatching(Pattern pattern) {
+      requireNonNull(pattern);
+      return check(ArrayChecks.containsNumbersMatching(pattern));
    }
 
    public ObjectArrayAssert<String> asStringArray() {
@@ -83,16 +179,23 @@ public abstract class AbstractArrayNodeAssert<SELF extends AbstractArrayNodeAsse
 
    public IntArrayAssert asIntArray() {
       isNotNull();
-      Integer[] array = convertArray(actual, Integer.class, AbstractJsonAssert::toInteger);
+      int[] array = toIntArray(actual);
+      assertArrayNotNull(array);
+      return new IntArrayAssert(array);
+   }
+
+   public LongArrayAssert asLongArray() {
+      isNotNull();
+      long[] array = toLongArray(actual);
       assertArrayNotNull(array);
-      return new IntArrayAssert(unbox(array));
+      return new LongArrayAssert(array);
    }
 
    public DoubleArrayAssert asDoubleArray() {
       isNotNull();
-      Double[] array = convertArray(actual, Double.class, AbstractJsonAssert::toDouble);
+      double[] array = toDoubleArray(actual);
       assertArrayNotNull(array);
-      return new DoubleArrayAssert(unbox(array));
+      return new DoubleArrayAssert(array);
    }
 
    public ObjectArrayAssert<BigDecimal> asBigDecimalArray() {
@@ -104,9 +207,9 @@ public abstract class AbstractArrayNodeAssert<SELF extends AbstractArrayNodeAsse
 
    public BooleanArrayAssert asBooleanArray() {
       isNotNull();
-      Boolean[] array = convertArray(actual, Boolean.class, AbstractJsonAssert::toBoolean);
+      boolean[] array = toBooleanArray(actual);
       assertArrayNotNull(array);
-      return new BooleanArrayAssert(unbox(array));
+      return new BooleanArrayAssert(array);
    }
 
    public ObjectArrayAssert<ObjectNode> asObjectNodeArray() {
@@ -117,6 +220,31 @@ public abstract class AbstractArrayNodeAssert<SELF extends AbstractArrayNodeAsse
       return asObjectArray(ArrayNode.class, AbstractJsonAssert::toArrayNode);
    }
 
+   public ObjectArrayAssert<LocalDate> asLocalDateArray() {
+      return asDateTimeArray(DateTimeType.LOCAL_DATE);
+   }
+
+   public ObjectArrayAssert<LocalDateTime> asLocalDateTimeArray() {
+      return asDateTimeArray(DateTimeType.LOCAL_DATE_TIME);
+   }
+
+   public ObjectArrayAssert<ZonedDateTime> asZonedDateTimeArray() {
+      return asDateTimeArray(DateTimeType.ZONED_DATE_TIME);
+   }
+
+   public ObjectArrayAssert<OffsetDateTime> asOffsetDateTimeArray() {
+      return asDateTimeArray(DateTimeType.OFFSET_DATE_TIME);
+   }
+
+   public ObjectArrayAssert<Instant> asInstantArray() {
+      return asDateTimeArray(DateTimeType.INSTANT);
+   }
+
+   private <T> ObjectArrayAssert<T> asDateTimeArray(DateTimeType<T> type) {
+      AssertConfiguration configuration = configuration();
+      return asObjectArray(type.type(), element -> type.convert(element, configuration));
+   }
+
    private <T> ObjectArrayAssert<T> asObjectArray(Class<T> elementType, Function<JsonNode, T> valueMapper) {
       isNotNull();
       T[] array = convertArray(actual, elementType, valueMapper);
@@ -124,7 +252,7 @@ public abstract class AbstractArrayNodeAssert<SELF extends AbstractArrayNodeAsse
       return new ObjectArrayAssert<>(array);
    }
 
-   private <T> void assertArrayNotNull(T[] array) {
+   private void assertArrayNotNull(Object array) {
       if (array == null) {
          failWithMessage("Array contained unexpected elements: %s", actual);
       }
@@ -132,43 +260,78 @@ public abstract class AbstractArrayNodeAssert<SELF extends AbstractArrayNodeAsse
 
    public SELF containsExactly(String... expected) {
       requireNonNull(expected);
-      containsExactly(expected, AbstractJsonAssert::toString);
-      return myself;
+      return check(ArrayChecks.containsExactly(expected));
    }
 
    public SELF containsExactly(int... expected) {
       requireNonNull(expected);
-      containsExactly(box(expected), AbstractJsonAssert::toInteger);
-      return myself;
+      return check(ArrayChecks.containsExactly(expected));
+   }
+
+   public SELF containsExactly(long... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsExactly(expected));
    }
 
    public SELF containsExactly(double... expected) {
       requireNonNull(expected);
-      containsExactly(box(expected), AbstractJsonAssert::toDouble);
-      return myself;
+      return check(ArrayChecks.containsExactly(expected));
    }
 
    public SELF containsExactly(boolean... expected) {
       requireNonNull(expected);
-      containsExactly(box(expected), AbstractJsonAssert::toBoolean);
-      return myself;
+      return check(ArrayChecks.containsExactly(expected));
    }
 
-   private <T> void containsExactly(T[] expected, Function<JsonNode, T> valueMapper) {
-      isNotNull();
-      if (actual.size() != expected.length) {
-         throw failure("Expected exactly <%d> elements, was <%d>: %s",
-                       expected.length,
-                       actual.size(),
-                       actual.toString());
-      }
-      for (int i = 0; i < actual.size(); i++) {
-         T actualElement = valueMapper.apply(actual.get(i));
-         T expectedElement = expected[i];
-         if (!expectedElement.equals(actualElement)) {
-            throw failure("Expected <%s> at array position %d, was <%s>", expectedElement, i, actualElement);
-         }
-      }
+   /**
+    * Verifies that the array contains exactly the given elements, in any order. Elements are compared as by
+    * {@code isEqualTo} and matched by their structural hash codes, so the cost is linear in the size of the arrays.
+    */
+   public SELF containsExactlyInAnyOrder(JsonNode... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsExactlyInAnyOrder(expected, configuration().maxDifferences()));
+   }
+
+   /**
+    * Verifies that the array contains exactly the elements of the given expected array, in any order.
+    */
+   public SELF containsExactlyInAnyOrder(JsonExpectation expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsExactlyInAnyOrder(expected.elements(), configuration().maxDifferences()));
+   }
+
+   /**
+    * Verifies that every element of the array is one of the given elements, and that every given element occurs in
+    * the array, regardless of order and number of occurrences.
+    */
+   public SELF containsOnly(JsonNode... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsOnly(expected, configuration().maxDifferences()));
+   }
+
+   public SELF containsOnly(JsonExpectation expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsOnly(expected.elements(), configuration().maxDifferences()));
+   }
+
+   public SELF containsAll(JsonNode... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsAll(expected, configuration().maxDifferences()));
+   }
+
+   public SELF containsAll(JsonExpectation expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsAll(expected.elements(), configuration().maxDifferences()));
+   }
+
+   public SELF containsNone(JsonNode... unexpected) {
+      requireNonNull(unexpected);
+      return check(ArrayChecks.containsNone(unexpected, configuration().maxDifferences()));
+   }
+
+   public SELF containsNone(JsonExpectation unexpected) {
+      requireNonNull(unexpected);
+      return check(ArrayChecks.containsNone(unexpected.elements(), configuration().maxDifferences()));
    }
 
 }
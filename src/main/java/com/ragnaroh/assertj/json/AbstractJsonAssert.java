@@ -2,8 +2,15 @@ package com.ragnaroh.assertj.json;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.assertj.core.api.AbstractAssert;
@@ -12,90 +19,343 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 @SuppressWarnings({ "java:S119", "java:S2160" })
 public abstract class AbstractJsonAssert<SELF extends AbstractJsonAssert<SELF, ACTUAL>, ACTUAL extends JsonNode>
       extends AbstractAssert<SELF, ACTUAL> {
 
-   protected ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+   private AssertConfiguration configuration = AssertConfiguration.DEFAULT;
 
    protected AbstractJsonAssert(ACTUAL actual, Class<SELF> selfType) {
       super(actual, selfType);
+      AssertedFieldTracker tracker = AssertedFieldTracker.current();
+      if (tracker != null) {
+         configuration = configuration.withTracker(tracker);
+      }
    }
 
+   /**
+    * Uses readers derived from the given mapper. The mapper itself is never modified.
+    */
    public SELF withObjectMapper(ObjectMapper mapper) {
-      this.mapper = mapper;
+      requireNonNull(mapper);
+      configuration = configuration.withObjectMapper(mapper);
       return myself;
    }
 
    public SELF withDeserializationFeature(DeserializationFeature feature, boolean state) {
-      mapper.configure(feature, state);
+      requireNonNull(feature);
+      configuration = configuration.withDeserializationFeature(feature, state);
+      return myself;
+   }
+
+   /**
+    * Limits how many differences an {@code isEqualTo} failure reports. Comparison stops at the first difference
+    * beyond the limit.
+    */
+   public SELF withMaxReportedDifferences(int maxDifferences) {
+      configuration = configuration.withMaxDifferences(maxDifferences);
+      return myself;
+   }
+
+   /**
+    * Renders JSON nodes in failure messages with the given renderer instead of {@link JsonNodeRenderer#DEFAULT}.
+    */
+   public SELF withRenderer(JsonNodeRenderer renderer) {
+      requireNonNull(renderer);
+      configuration = configuration.withRenderer(renderer);
+      return myself;
+   }
+
+   /**
+    * Compares documents in {@code isEqualTo} as described by the given comparison, for instance ignoring array order
+    * or extra fields, instead of strictly.
+    */
+   public SELF withComparison(JsonComparison comparison) {
+      requireNonNull(comparison);
+      configuration = configuration.withComparison(comparison);
+      return myself;
+   }
+
+   /**
+    * Parses textual date/time values with the given pattern (see {@link DateTimeFormatter#ofPattern(String)}) instead
+    * of the ISO formats. Patterns are compiled once and cached.
+    */
+   public SELF withDateTimePattern(String pattern) {
+      requireNonNull(pattern);
+      return withDateTimeFormatter(DateTimeType.formatter(pattern));
+   }
+
+   /**
+    * Parses textual date/time values with the given formatter instead of the ISO formats.
+    */
+   public SELF withDateTimeFormatter(DateTimeFormatter formatter) {
+      requireNonNull(formatter);
+      configuration = configuration.withDateTimeFormatter(formatter);
+      return myself;
+   }
+
+   /**
+    * Tracks which fields of the whole document are asserted, through this assert, every assert derived from it (such
+    * as those returned by {@link #at(String)}) and asserts created inside {@code *Satisfying} requirements, so that
+    * {@link #containsNoUnassertedFieldsDeeply()} can report the rest. Enable before asserting any fields.
+    */
+   public SELF withDeepFieldTracking() {
+      isNotNull();
+      configuration = configuration.withTracker(new AssertedFieldTracker(actual));
+      return myself;
+   }
+
+   /**
+    * Verifies that every field in the document has been asserted, see {@link #withDeepFieldTracking()}. A field
+    * counts as asserted when an assertion names it or navigates through it; the fields of its value, if it is an
+    * object or an array of objects, must then be asserted too, unless the value was asserted as a whole with
+    * {@code isEqualTo}.
+    *
+    * @throws IllegalStateException if deep field tracking is not enabled
+    */
+   public void containsNoUnassertedFieldsDeeply() {
+      AssertedFieldTracker tracker = configuration.tracker();
+      if (tracker == null) {
+         throw new IllegalStateException("Deep field tracking is not enabled, see withDeepFieldTracking()");
+      }
+      isNotNull();
+      List<String> unasserted = tracker.unassertedPaths();
+      if (!unasserted.isEmpty()) {
+         failWithMessage("Found unasserted fields: <%s>", unasserted);
+      }
+   }
+
+   /**
+    * Returns the reader used for parsing JSON text into trees.
+    */
+   protected final ObjectReader reader() {
+      return configuration.reader();
+   }
+
+   /**
+    * Returns the reader used for converting trees into Java values, such as date/time types.
+    */
+   protected final ObjectReader conversionReader() {
+      return configuration.conversionReader();
+   }
+
+   final AssertConfiguration configuration() {
+      return configuration;
+   }
+
+   final SELF withConfiguration(AssertConfiguration configuration) {
+      this.configuration = configuration;
+      return myself;
+   }
+
+   /**
+    * JSON node arguments are rendered with the configured {@link JsonNodeRenderer}.
+    */
+   @Override
+   protected void failWithMessage(String errorMessage, Object... arguments) {
+      super.failWithMessage(errorMessage, rendered(arguments));
+   }
+
+   /**
+    * JSON node arguments are rendered with the configured {@link JsonNodeRenderer}.
+    */
+   @Override
+   protected AssertionError failure(String errorMessage, Object... arguments) {
+      return super.failure(errorMessage, rendered(arguments));
+   }
+
+   private Object[] rendered(Object[] arguments) {
+      Object[] result = arguments.clone();
+      for (int i = 0; i < result.length; i++) {
+         if (result[i] instanceof JsonNode) {
+            result[i] = configuration.renderer().lazily((JsonNode) result[i]);
+         }
+      }
+      return result;
+   }
+
+   /**
+    * Navigates to the node at the given JSON Pointer. Pointers are compiled once and cached, see
+    * {@link CompiledJsonPath}.
+    */
+   public JsonNodeAssert at(String pointer) {
+      return at(CompiledJsonPath.compile(pointer));
+   }
+
+   public JsonNodeAssert at(CompiledJsonPath path) {
+      requireNonNull(path);
+      isNotNull();
+      if (path.hasWildcards()) {
+         throw new IllegalArgumentException("JSON Pointer <" + path + "> contains wildcards, use eachNodeAt instead");
+      }
+      JsonNode node = path.find(actual);
+      if (node == null) {
+         throw failure("No node at <%s>, deepest existing node is at <%s>",
+                       path,
+                       JsonPointers.display(path.deepestExisting(actual)));
+      }
+      if (configuration.tracker() != null) {
+         path.markFields(actual, configuration.tracker());
+      }
+      return new JsonNodeAssert(node).withConfiguration(configuration);
+   }
+
+   /**
+    * Verifies that the given JSON Pointer, which may contain {@code *} wildcards, matches at least one node, and
+    * that every matching node satisfies the given requirements.
+    */
+   public SELF eachNodeAt(String pointer, Consumer<JsonNodeAssert> requirements) {
+      return eachNodeAt(CompiledJsonPath.compile(pointer), requirements);
+   }
+
+   public SELF eachNodeAt(CompiledJsonPath path, Consumer<JsonNodeAssert> requirements) {
+      requireNonNull(path);
+      requireNonNull(requirements);
+      isNotNull();
+      int matches = path.forEachMatch(actual, configuration.tracker(), (pointer, node) -> {
+         try {
+            requirements.accept(new JsonNodeAssert(node).withConfiguration(configuration));
+         } catch (AssertionError e) {
+            throw failure("Node at <%s>: %s", JsonPointers.display(pointer), e.getMessage());
+         }
+      });
+      if (matches == 0) {
+         throw failure("No nodes at <%s>", path);
+      }
       return myself;
    }
 
    public SELF isEqualTo(String expected) {
       requireNonNull(expected);
+      if (configuration.hasDefaultReader()) {
+         return isEqualTo(JsonExpectation.compile(expected));
+      }
       try {
-         JsonNode expectedJson = mapper.readValue(expected, JsonNode.class);
-         if (!expectedJson.equals(actual)) {
-            throw failure("Expected <%s> to be equal to <%s>", actual, expected);
-         }
-         return myself;
+         JsonNode expectedJson = reader().readValue(expected);
+         return isEqualToNode(expectedJson);
       } catch (JsonProcessingException e) {
          throw new IllegalArgumentException("Could not parse expected value as JSON node");
       }
    }
 
-   static int[] unbox(Integer[] array) {
-      int[] unboxed = new int[array.length];
-      for (int i = 0; i < array.length; i++) {
-         unboxed[i] = array[i].intValue();
+   public SELF isEqualTo(JsonExpectation expected) {
+      requireNonNull(expected);
+      return isEqualToNode(expected.node());
+   }
+
+   private SELF isEqualToNode(JsonNode expectedJson) {
+      check(NodeChecks.isEqualTo(expectedJson, configuration.comparison(), configuration.maxDifferences()));
+      if (configuration.tracker() != null) {
+         configuration.tracker().markAll(actual);
       }
-      return unboxed;
+      return myself;
    }
 
-   static double[] unbox(Double[] array) {
-      double[] unboxed = new double[array.length];
-      for (int i = 0; i < array.length; i++) {
-         unboxed[i] = array[i].doubleValue();
+   /**
+    * Verifies that the actual JSON matches the snapshot with the given name, see {@link JsonSnapshots}. The digest of
+    * the actual JSON is compared with the one stored with the snapshot first; only when they differ is the snapshot
+    * parsed and compared as by {@code isEqualTo}, under the configured {@link JsonComparison}. In update mode, the
+    * snapshot is written instead; outside it, a missing snapshot fails.
+    */
+   public SELF matchesSnapshot(String name) {
+      requireNonNull(name);
+      isNotNull();
+      Path file = JsonSnapshots.file(name);
+      try {
+         String digest = JsonSnapshots.digest(actual);
+         if (JsonSnapshots.isUpdating()) {
+            JsonSnapshots.write(file, actual, digest);
+         } else if (!Files.exists(file)) {
+            throw failure("Expected snapshot <%s> to exist, run with -D%s=true to create it",
+                          file,
+                          JsonSnapshots.UPDATE_PROPERTY);
+         } else if (!digest.equals(JsonSnapshots.storedDigest(file))) {
+            JsonNode snapshot = JsonSnapshots.read(file, reader());
+            JsonDiff diff = JsonDiff.between(snapshot,
+                                             actual,
+                                             configuration.comparison(),
+                                             configuration.maxDifferences());
+            if (!diff.isEmpty()) {
+               throw failure("Expected JSON to match snapshot <%s>, found differences:%s", file, diff.describe());
+            }
+         }
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
       }
-      return unboxed;
+      if (configuration.tracker() != null) {
+         configuration.tracker().markAll(actual);
+      }
+      return myself;
+   }
+
+   /**
+    * Fails with the failure of the given check, if any. Shared with {@link JsonMatchers} and
+    * {@link JsonSoftAssertions}.
+    */
+   final SELF check(JsonCheck check) {
+      isNotNull();
+      JsonFailure failure = check.check(actual);
+      if (failure != null) {
+         throw failure("%s", failure.message(configuration.renderer()));
+      }
+      return myself;
    }
 
-   static boolean[] unbox(Boolean[] array) {
-      boolean[] unboxed = new boolean[array.length];
+   @SuppressWarnings("java:S1168")
+   static int[] toIntArray(ArrayNode arrayNode) {
+      int[] array = new int[arrayNode.size()];
       for (int i = 0; i < array.length; i++) {
-         unboxed[i] = array[i].booleanValue();
+         JsonNode jsonNode = arrayNode.get(i);
+         if (!isInt(jsonNode)) {
+            return null;
+         }
+         array[i] = jsonNode.intValue();
       }
-      return unboxed;
+      return array;
    }
 
-   static Integer[] box(int[] array) {
-      Integer[] boxed = new Integer[array.length];
+   @SuppressWarnings("java:S1168")
+   static long[] toLongArray(ArrayNode arrayNode) {
+      long[] array = new long[arrayNode.size()];
       for (int i = 0; i < array.length; i++) {
-         boxed[i] = Integer.valueOf(array[i]);
+         JsonNode jsonNode = arrayNode.get(i);
+         if (!isLong(jsonNode)) {
+            return null;
+         }
+         array[i] = jsonNode.longValue();
       }
-      return boxed;
+      return array;
    }
 
-   static Double[] box(double[] array) {
-      Double[] boxed = new Double[array.length];
+   @SuppressWarnings("java:S1168")
+   static double[] toDoubleArray(ArrayNode arrayNode) {
+      double[] array = new double[arrayNode.size()];
       for (int i = 0; i < array.length; i++) {
-         boxed[i] = Double.valueOf(array[i]);
+         JsonNode jsonNode = arrayNode.get(i);
+         if (!jsonNode.isNumber()) {
+            return null;
+         }
+         array[i] = jsonNode.doubleValue();
       }
-      return boxed;
+      return array;
    }
 
-   static Boolean[] box(boolean[] array) {
-      Boolean[] boxed = new Boolean[array.length];
+   @SuppressWarnings("java:S1168")
+   static boolean[] toBooleanArray(ArrayNode arrayNode) {
+      boolean[] array = new boolean[arrayNode.size()];
       for (int i = 0; i < array.length; i++) {
-         boxed[i] = Boolean.valueOf(array[i]);
+         JsonNode jsonNode = arrayNode.get(i);
+         if (!jsonNode.isBoolean()) {
+            return null;
+         }
+         array[i] = jsonNode.booleanValue();
       }
-      return boxed;
+      return array;
    }
 
    @SuppressWarnings("java:S1168")
@@ -126,11 +386,24 @@ public abstract class AbstractJsonAssert<SELF extends AbstractJsonAssert<SELF, A
       return null;
    }
 
+   /**
+    * Floating-point values are converted through their shortest decimal representation, so that 0.1 is 0.1.
+    */
    static BigDecimal toBigDecimal(JsonNode jsonNode) {
-      if (jsonNode.isNumber()) {
-         return new BigDecimal(jsonNode.numberValue().toString());
+      if (!jsonNode.isNumber()) {
+         return null;
+      }
+      switch (jsonNode.numberType()) {
+         case INT:
+         case LONG:
+            return BigDecimal.valueOf(jsonNode.longValue());
+         case BIG_INTEGER:
+            return new BigDecimal(jsonNode.bigIntegerValue());
+         case BIG_DECIMAL:
+            return jsonNode.decimalValue();
+         default:
+            return new BigDecimal(jsonNode.numberValue().toString());
       }
-      return null;
    }
 
    static Double toDouble(JsonNode jsonNode) {
@@ -142,12 +415,27 @@ public abstract class AbstractJsonAssert<SELF extends AbstractJsonAssert<SELF, A
    }
 
    static Integer toInteger(JsonNode jsonNode) {
-      if (jsonNode.isIntegralNumber()) {
+      if (isInt(jsonNode)) {
          return jsonNode.intValue();
       }
       return null;
    }
 
+   static Long toLong(JsonNode jsonNode) {
+      if (isLong(jsonNode)) {
+         return jsonNode.longValue();
+      }
+      return null;
+   }
+
+   static boolean isInt(JsonNode jsonNode) {
+      return jsonNode.isIntegralNumber() && jsonNode.canConvertToInt();
+   }
+
+   static boolean isLong(JsonNode jsonNode) {
+      return jsonNode.isIntegralNumber() && jsonNode.canConvertToLong();
+   }
+
    @SuppressWarnings("java:S2447")
    static Boolean toBoolean(JsonNode jsonNode) {
       if (jsonNode.isBoolean()) {
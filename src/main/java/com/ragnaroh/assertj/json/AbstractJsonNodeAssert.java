@@ -10,9 +10,7 @@ import org.assertj.core.api.DoubleAssert;
 import org.assertj.core.api.IntegerAssert;
 import org.assertj.core.api.StringAssert;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -21,96 +19,53 @@ public abstract class AbstractJsonNodeAssert<SELF extends AbstractJsonNodeAssert
       extends AbstractJsonAssert<SELF, JsonNode> {
 
    protected AbstractJsonNodeAssert(String actual, Class<SELF> selfType) {
-      super(toJsonNode(actual), selfType);
+      super(ObjectReaders.readJsonNode(actual), selfType);
    }
 
    protected AbstractJsonNodeAssert(JsonNode actual, Class<SELF> selfType) {
       super(actual, selfType);
    }
 
-   private static JsonNode toJsonNode(String json) {
-      try {
-         return new ObjectMapper().readValue(json, JsonNode.class);
-      } catch (JsonProcessingException e) {
-         throw new IllegalArgumentException("Could not parse actual value as JSON node: " + e.getMessage());
-      }
-   }
-
    public SELF isString() {
-      isNotNull();
-      String value = toString(actual);
-      if (value == null) {
-         failWithMessage("Expected JSON node to be a string, was <%s>", actual);
-      }
-      return myself;
+      return check(NodeChecks.isString());
    }
 
    public SELF isNumber() {
-      isNotNull();
-      Number value = toNumber(actual);
-      if (value == null) {
-         failWithMessage("Expected JSON node to be a number, was <%s>", actual);
-      }
-      return myself;
+      return check(NodeChecks.isNumber());
    }
 
    public SELF isInteger() {
-      isNotNull();
-      Integer value = toInteger(actual);
-      if (value == null) {
-         failWithMessage("Expected JSON node to be an integer, was <%s>", actual);
-      }
-      return myself;
+      return check(NodeChecks.isInteger());
    }
 
    public SELF isBoolean() {
-      isNotNull();
-      Boolean value = toBoolean(actual);
-      if (value == null) {
-         failWithMessage("Expected JSON node to be a boolean, was <%s>", actual);
-      }
-      return myself;
+      return check(NodeChecks.isBoolean());
    }
 
    public SELF isObjectNode() {
-      isNotNull();
-      ObjectNode objectNode = toObjectNode(actual);
-      if (objectNode == null) {
-         failWithMessage("Expected JSON node to be an object, was <%s>", actual);
-      }
-      return myself;
+      return check(NodeChecks.isObjectNode());
    }
 
    public SELF isArrayNode() {
-      isNotNull();
-      ArrayNode arrayNode = toArrayNode(actual);
-      if (arrayNode == null) {
-         failWithMessage("Expected JSON node to be an array, was <%s>", actual);
-      }
-      return myself;
+      return check(NodeChecks.isArrayNode());
    }
 
    public SELF isStringEqualTo(String expected) {
       requireNonNull(expected);
-      isNotNull();
-      String value = toString(actual);
-      if (value == null || !value.equals(expected)) {
-         failWithMessage("Expected JSON node to be a string equal to <%s>, was <%s>", expected, actual);
-      }
-      return myself;
+      return check(NodeChecks.isStringEqualTo(expected));
    }
 
    public SELF isNumberEqualTo(Number expected) {
       requireNonNull(expected);
-      return isNumberEqualTo(new BigDecimal(expected.toString()));
+      return check(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
    }
 
    public SELF isNumberEqualTo(int expected) {
-      return isNumberEqualTo(new BigDecimal(expected));
+      return check(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
    }
 
    public SELF isNumberEqualTo(double expected) {
-      return isNumberEqualTo(BigDecimal.valueOf(expected));
+      return check(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
    }
 
    public SELF isNumberEqualTo(String expectedNumberAsString) {
@@ -120,21 +75,11 @@ public abstract class AbstractJsonNodeAssert<SELF extends AbstractJsonNodeAssert
 
    public SELF isNumberEqualTo(BigDecimal expected) {
       requireNonNull(expected);
-      isNotNull();
-      BigDecimal value = toBigDecimal(actual);
-      if (value == null || value.compareTo(expected) != 0) {
-         failWithMessage("Expected JSON node to be a number equal to <%s>, was <%s>", expected, actual);
-      }
-      return myself;
+      return check(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
    }
 
    public SELF isBooleanEqualTo(boolean expected) {
-      isNotNull();
-      Boolean value = toBoolean(actual);
-      if (value == null || value.booleanValue() != expected) {
-         failWithMessage("Expected JSON node to be a boolean equal to <%s>, was <%s>", expected, actual);
-      }
-      return myself;
+      return check(NodeChecks.isBooleanEqualTo(expected));
    }
 
    @Override
@@ -189,7 +134,7 @@ public abstract class AbstractJsonNodeAssert<SELF extends AbstractJsonNodeAssert
       if (objectNode == null) {
          failWithMessage("Expected JSON node to be an object, was <%s>", actual);
       }
-      return new ObjectNodeAssert(objectNode).withObjectMapper(mapper);
+      return new ObjectNodeAssert(objectNode).withConfiguration(configuration());
    }
 
    public ArrayNodeAssert asArrayNode() {
@@ -198,7 +143,7 @@ public abstract class AbstractJsonNodeAssert<SELF extends AbstractJsonNodeAssert
       if (arrayNode == null) {
          failWithMessage("Expected JSON node to be an array, was <%s>", actual);
       }
-      return new ArrayNodeAssert(arrayNode).withObjectMapper(mapper);
+      return new ArrayNodeAssert(arrayNode).withConfiguration(configuration());
    }
 
 }
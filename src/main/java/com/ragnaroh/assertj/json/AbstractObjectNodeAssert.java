@@ -2,49 +2,38 @@ package com.ragnaroh.assertj.json;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 @SuppressWarnings({ "java:S2160", "java:S119" })
 public abstract class AbstractObjectNodeAssert<SELF extends AbstractObjectNodeAssert<SELF>>
       extends AbstractJsonAssert<SELF, ObjectNode> {
 
-   private final Set<String> assertedFields = new HashSet<>();
+   private AssertedFieldTracker localTracker;
 
    protected AbstractObjectNodeAssert(String actual, Class<SELF> selfType) {
-      this(toObjectNode(actual), selfType);
+      this(ObjectReaders.readObjectNode(actual), selfType);
    }
 
    protected AbstractObjectNodeAssert(ObjectNode actual, Class<SELF> selfType) {
       super(actual, selfType);
    }
 
-   private static ObjectNode toObjectNode(String json) {
-      try {
-         return new ObjectMapper().readValue(json, ObjectNode.class);
-      } catch (JsonProcessingException e) {
-         throw new IllegalArgumentException("Could not parse actual value as JSON object node: " + e.getMessage());
-      }
-   }
-
    public SELF isEmpty() {
       isNotNull();
       Iterable<String> iterable = actual::fieldNames;
@@ -57,111 +46,82 @@ public abstract class AbstractObjectNodeAssert<SELF extends AbstractObjectNodeAs
 
    public SELF contains(String fieldName) {
       requireNonNull(fieldName);
-      isNotNull();
-      if (!actual.has(fieldName)) {
-         failWithMessage("No field named \"%s\"", fieldName);
-      }
-      markAsAsserted(fieldName);
-      return myself;
+      return checkField(fieldName, ObjectChecks.contains(fieldName));
    }
 
    public SELF containsString(String fieldName) {
       requireNonNull(fieldName);
-      getString(fieldName);
-      return myself;
+      return checkField(fieldName, ObjectChecks.containsString(fieldName));
    }
 
    public SELF containsNumber(String fieldName) {
       requireNonNull(fieldName);
-      getNumber(fieldName);
-      return myself;
+      return checkField(fieldName, ObjectChecks.containsNumber(fieldName));
    }
 
    public SELF containsInteger(String fieldName) {
       requireNonNull(fieldName);
-      getInteger(fieldName);
-      return myself;
+      return checkField(fieldName, ObjectChecks.containsInteger(fieldName));
    }
 
    public SELF containsBoolean(String fieldName) {
       requireNonNull(fieldName);
-      getBoolean(fieldName);
-      return myself;
+      return checkField(fieldName, ObjectChecks.containsBoolean(fieldName));
    }
 
    public SELF containsNull(String fieldName) {
       requireNonNull(fieldName);
-      getNullNode(fieldName);
-      return myself;
+      return checkField(fieldName, ObjectChecks.containsNull(fieldName));
    }
 
    public SELF containsObject(String fieldName) {
       requireNonNull(fieldName);
-      getObjectNode(fieldName);
-      return myself;
+      return checkField(fieldName, ObjectChecks.containsObject(fieldName));
    }
 
    public SELF containsArray(String fieldName) {
       requireNonNull(fieldName);
-      getArrayNode(fieldName);
-      return myself;
+      return checkField(fieldName, ObjectChecks.containsArray(fieldName));
    }
 
    public SELF contains(String fieldName, String expectedValue) {
       requireNonNull(fieldName);
       requireNonNull(expectedValue);
-      String actualValue = getString(fieldName);
-      if (!expectedValue.equals(actualValue)) {
-         throw fieldValueFailure(fieldName, expectedValue, actualValue);
-      }
-      return myself;
+      return checkField(fieldName, ObjectChecks.contains(fieldName, expectedValue));
    }
 
    public SELF contains(String fieldName, int expectedValue) {
       requireNonNull(fieldName);
-      Integer actualValue = getInteger(fieldName);
-      if (actualValue.intValue() != expectedValue) {
-         throw fieldValueFailure(fieldName, expectedValue, actualValue);
-      }
-      return myself;
+      return checkField(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+   }
+
+   public SELF contains(String fieldName, long expectedValue) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.contains(fieldName, expectedValue));
    }
 
    public SELF contains(String fieldName, double expectedValue) {
       requireNonNull(fieldName);
-      Number actualValue = getNumber(fieldName);
-      if (actualValue.doubleValue() != expectedValue) {
-         throw fieldValueFailure(fieldName, expectedValue, actualValue);
-      }
-      return myself;
+      return checkField(fieldName, ObjectChecks.contains(fieldName, expectedValue));
    }
 
    public SELF contains(String fieldName, BigDecimal expectedValue) {
       requireNonNull(fieldName);
       requireNonNull(expectedValue);
-      Number actualValue = getNumber(fieldName);
-      if (new BigDecimal(actualValue.toString()).compareTo(expectedValue) != 0) {
-         throw fieldValueFailure(fieldName, expectedValue, actualValue);
-      }
-      return myself;
+      return checkField(fieldName,
+                        ObjectChecks.containsNumber(fieldName, ExpectedNumber.of(expectedValue), expectedValue));
    }
 
    public SELF containsNumber(String fieldName, String expectedValueAsString) {
       requireNonNull(fieldName);
       requireNonNull(expectedValueAsString);
-      Number actualValue = getNumber(fieldName);
-      if (new BigDecimal(actualValue.toString()).compareTo(new BigDecimal(expectedValueAsString)) != 0) {
-         throw fieldValueFailure(fieldName, expectedValueAsString, actualValue);
-      }
-      return myself;
+      ExpectedNumber expectedValue = ExpectedNumber.of(new BigDecimal(expectedValueAsString));
+      return checkField(fieldName, ObjectChecks.containsNumber(fieldName, expectedValue, expectedValueAsString));
    }
 
    public SELF contains(String fieldName, boolean expectedValue) {
       requireNonNull(fieldName);
-      boolean actualValue = getBoolean(fieldName);
-      if (actualValue != expectedValue) {
-         throw fieldValueFailure(fieldName, expectedValue, actualValue);
-      }
-      return myself;
+      return checkField(fieldName, ObjectChecks.contains(fieldName, expectedValue));
    }
 
    public SELF contains(String fieldName, LocalDateTime expectedValue) {
@@ -214,6 +174,36 @@ public abstract class AbstractObjectNodeAssert<SELF extends AbstractObjectNodeAs
       return myself;
    }
 
+   public SELF contains(String fieldName, LocalDate expectedValue) {
+      requireNonNull(fieldName);
+      requireNonNull(expectedValue);
+      LocalDate actualValue = getDateTime(fieldName, DateTimeType.LOCAL_DATE);
+      if (!actualValue.equals(expectedValue)) {
+         throw fieldValueFailure(fieldName, expectedValue, actualValue);
+      }
+      return myself;
+   }
+
+   public SELF contains(String fieldName, OffsetDateTime expectedValue) {
+      requireNonNull(fieldName);
+      requireNonNull(expectedValue);
+      OffsetDateTime actualValue = getDateTime(fieldName, DateTimeType.OFFSET_DATE_TIME);
+      if (!actualValue.isEqual(expectedValue)) {
+         throw fieldValueFailure(fieldName, expectedValue, actualValue);
+      }
+      return myself;
+   }
+
+   public SELF containsLocalDate(String fieldName, String expectedLocalDateAsString) {
+      requireNonNull(fieldName);
+      requireNonNull(expectedLocalDateAsString);
+      LocalDate actualValue = getDateTime(fieldName, DateTimeType.LOCAL_DATE);
+      if (!actualValue.equals(LocalDate.parse(expectedLocalDateAsString))) {
+         throw fieldValueFailure(fieldName, expectedLocalDateAsString, actualValue);
+      }
+      return myself;
+   }
+
    private AssertionError fieldValueFailure(String fieldName, Object expectedValue, Object actualValue) {
       return fieldFailure(fieldName, "Expected value <%s>, was: <%s>", expectedValue, actualValue);
    }
@@ -221,7 +211,7 @@ public abstract class AbstractObjectNodeAssert<SELF extends AbstractObjectNodeAs
    public SELF containsNodeSatisfying(String fieldName, Consumer<JsonNode> valueRequirements) {
       requireNonNull(fieldName);
       requireNonNull(valueRequirements);
-      valueRequirements.accept(getJsonNode(fieldName));
+      satisfies(getJsonNode(fieldName), valueRequirements);
       return myself;
    }
 
@@ -256,60 +246,54 @@ public abstract class AbstractObjectNodeAssert<SELF extends AbstractObjectNodeAs
    public SELF containsBigDecimalSatisfying(String fieldName, Consumer<BigDecimal> valueRequirements) {
       requireNonNull(fieldName);
       requireNonNull(valueRequirements);
-      valueRequirements.accept(new BigDecimal(getNumber(fieldName).toString()));
+      valueRequirements.accept(getBigDecimal(fieldName));
       return myself;
    }
 
    public SELF containsObjectSatisfying(String fieldName, Consumer<ObjectNode> valueRequirements) {
       requireNonNull(fieldName);
       requireNonNull(valueRequirements);
-      valueRequirements.accept(getObjectNode(fieldName));
+      satisfies(getObjectNode(fieldName), valueRequirements);
       return myself;
    }
 
    public SELF containsArraySatisfying(String fieldName, Consumer<ArrayNode> valueRequirements) {
       requireNonNull(fieldName);
       requireNonNull(valueRequirements);
-      valueRequirements.accept(getArrayNode(fieldName));
+      satisfies(getArrayNode(fieldName), valueRequirements);
       return myself;
    }
 
    public SELF containsStringMatching(String fieldName, String valueRegex) {
-      requireNonNull(fieldName);
       requireNonNull(valueRegex);
-      String actualValue = getString(fieldName);
-      if (!actualValue.matches(valueRegex)) {
-         throw fieldFailure(fieldName, "Expected value matching regex <%s>, was: <%s>", valueRegex, actualValue);
-      }
-      return myself;
+      return containsStringMatching(fieldName, Patterns.compile(valueRegex));
    }
 
-   public SELF containsNumberMatching(String fieldName, String valueRegex) {
+   public SELF containsStringMatching(String fieldName, Pattern valuePattern) {
       requireNonNull(fieldName);
+      requireNonNull(valuePattern);
+      return checkField(fieldName, ObjectChecks.containsStringMatching(fieldName, valuePattern));
+   }
+
+   public SELF containsNumberMatching(String fieldName, String valueRegex) {
       requireNonNull(valueRegex);
-      Number actualValue = getNumber(fieldName);
-      if (!actualValue.toString().matches(valueRegex)) {
-         throw fieldFailure(fieldName, "Expected value matching regex <%s>, was: <%s>", valueRegex, actualValue);
-      }
-      return myself;
+      return containsNumberMatching(fieldName, Patterns.compile(valueRegex));
+   }
+
+   public SELF containsNumberMatching(String fieldName, Pattern valuePattern) {
+      requireNonNull(fieldName);
+      requireNonNull(valuePattern);
+      return checkField(fieldName, ObjectChecks.containsNumberMatching(fieldName, valuePattern));
    }
 
    public SELF containsEmptyObject(String fieldName) {
       requireNonNull(fieldName);
-      ObjectNode actualValue = getObjectNode(fieldName);
-      if (actualValue.size() != 0) {
-         throw fieldFailure(fieldName, "Expected empty object, was: <%s>", actualValue);
-      }
-      return myself;
+      return checkField(fieldName, ObjectChecks.containsEmptyObject(fieldName));
    }
 
    public SELF containsEmptyArray(String fieldName) {
       requireNonNull(fieldName);
-      ArrayNode actualValue = getArrayNode(fieldName);
-      if (actualValue.size() != 0) {
-         throw fieldFailure(fieldName, "Expected empty array, was: <%s>", actualValue);
-      }
-      return myself;
+      return checkField(fieldName, ObjectChecks.containsEmptyArray(fieldName));
    }
 
    public SELF containsLocalDateTimeSatisfying(String fieldName, Consumer<LocalDateTime> valueRequirements) {
@@ -324,6 +308,24 @@ public abstract class AbstractObjectNodeAssert<SELF extends AbstractObjectNodeAs
       return myself;
    }
 
+   public SELF containsLocalDateSatisfying(String fieldName, Consumer<LocalDate> valueRequirements) {
+      requireNonNull(fieldName);
+      valueRequirements.accept(getDateTime(fieldName, DateTimeType.LOCAL_DATE));
+      return myself;
+   }
+
+   public SELF containsOffsetDateTimeSatisfying(String fieldName, Consumer<OffsetDateTime> valueRequirements) {
+      requireNonNull(fieldName);
+      valueRequirements.accept(getDateTime(fieldName, DateTimeType.OFFSET_DATE_TIME));
+      return myself;
+   }
+
+   public SELF containsLocalDate(String fieldName) {
+      requireNonNull(fieldName);
+      getDateTime(fieldName, DateTimeType.LOCAL_DATE);
+      return myself;
+   }
+
    public SELF containsLocalDateTime(String fieldName) {
       requireNonNull(fieldName);
       getLocalDateTime(fieldName);
@@ -331,30 +333,24 @@ public abstract class AbstractObjectNodeAssert<SELF extends AbstractObjectNodeAs
    }
 
    private LocalDateTime getLocalDateTime(String fieldName) {
-      JsonNode node = getJsonNode(fieldName);
-      try {
-         return mapper.treeToValue(node, LocalDateTime.class);
-      } catch (JsonProcessingException e) {
-         throw fieldFailure(fieldName, "Expected field to be parsable as LocalDateTime, was <%s>", node);
-      }
+      return getDateTime(fieldName, DateTimeType.LOCAL_DATE_TIME);
    }
 
    private ZonedDateTime getZonedDateTime(String fieldName) {
-      JsonNode node = getJsonNode(fieldName);
-      try {
-         return mapper.treeToValue(node, ZonedDateTime.class);
-      } catch (JsonProcessingException e) {
-         throw fieldFailure(fieldName, "Expected field to be parsable as ZonedDateTime, was <%s>", node);
-      }
+      return getDateTime(fieldName, DateTimeType.ZONED_DATE_TIME);
    }
 
    private Instant getInstant(String fieldName) {
+      return getDateTime(fieldName, DateTimeType.INSTANT);
+   }
+
+   private <T> T getDateTime(String fieldName, DateTimeType<T> type) {
       JsonNode node = getJsonNode(fieldName);
-      try {
-         return mapper.treeToValue(node, Instant.class);
-      } catch (JsonProcessingException e) {
-         throw fieldFailure(fieldName, "Expected field to be parsable as Instant, was <%s>", node);
+      T value = type.convert(node, configuration());
+      if (value == null) {
+         throw fieldFailure(fieldName, "Expected field to be parsable as " + type.name() + ", was <%s>", node);
       }
+      return value;
    }
 
    public SELF containsStringArrayOfSize(String fieldName, int expectedSize) {
@@ -429,14 +425,14 @@ public abstract class AbstractObjectNodeAssert<SELF extends AbstractObjectNodeAs
    public SELF containsObjectArraySatisfying(String fieldName, Consumer<ObjectNode[]> requirements) {
       requireNonNull(fieldName);
       ObjectNode[] actualValue = getArray(fieldName, ObjectNode.class, AbstractJsonAssert::toObjectNode);
-      requirements.accept(actualValue);
+      satisfies(actualValue, requirements);
       return myself;
    }
 
    public SELF containsArrayArraySatisfying(String fieldName, Consumer<ArrayNode[]> requirements) {
       requireNonNull(fieldName);
       ArrayNode[] actualValue = getArray(fieldName, ArrayNode.class, AbstractJsonAssert::toArrayNode);
-      requirements.accept(actualValue);
+      satisfies(actualValue, requirements);
       return myself;
    }
 
@@ -453,14 +449,8 @@ public abstract class AbstractObjectNodeAssert<SELF extends AbstractObjectNodeAs
     * Verifies that all fields have been asserted (by any of the "contains*" methods).
     */
    public void containsNoUnassertedFields() {
-      Iterator<String> actualFields = actual.fieldNames();
-      List<String> additionalFields = new ArrayList<>();
-      while (actualFields.hasNext()) {
-         String field = actualFields.next();
-         if (!assertedFields.contains(field)) {
-            additionalFields.add(field);
-         }
-      }
+      isNotNull();
+      List<String> additionalFields = tracker().unassertedFields(actual);
       if (!additionalFields.isEmpty()) {
          failWithMessage("Found additional fields: <%s>", additionalFields);
       }
@@ -486,32 +476,22 @@ public abstract class AbstractObjectNodeAssert<SELF extends AbstractObjectNodeAs
       return value;
    }
 
-   private Integer getInteger(String fieldName) {
+   private BigDecimal getBigDecimal(String fieldName) {
       isNotNull();
       JsonNode jsonNode = getJsonNode(fieldName);
-      Integer value = toInteger(jsonNode);
+      BigDecimal value = toBigDecimal(jsonNode);
       if (value == null) {
-         throw fieldFailure(fieldName, "Expected integral number, was: <%s>", jsonNode);
-      }
-      return value;
-   }
-
-   private boolean getBoolean(String fieldName) {
-      isNotNull();
-      JsonNode jsonNode = getJsonNode(fieldName);
-      Boolean value = toBoolean(jsonNode);
-      if (value == null) {
-         throw fieldFailure(fieldName, "Expected boolean, was: <%s>", jsonNode);
+         throw fieldFailure(fieldName, "Expected number, was: <%s>", jsonNode);
       }
       return value;
    }
 
-   private NullNode getNullNode(String fieldName) {
+   private Integer getInteger(String fieldName) {
       isNotNull();
       JsonNode jsonNode = getJsonNode(fieldName);
-      NullNode value = toJsonNull(jsonNode);
+      Integer value = toInteger(jsonNode);
       if (value == null) {
-         throw fieldFailure(fieldName, "Expected <null>, was: <%s>", jsonNode);
+         throw fieldFailure(fieldName, "Expected integral number, was: <%s>", jsonNode);
       }
       return value;
    }
@@ -549,20 +529,58 @@ public abstract class AbstractObjectNodeAssert<SELF extends AbstractObjectNodeAs
    private <T> T getNode(String fieldName, Class<T> nodeType) {
       isNotNull();
       JsonNode node = actual.get(fieldName);
+      if (node == null) {
+         failWithMessage("Expected field named \"%s\"", fieldName);
+      }
       try {
-         T value = mapper.treeToValue(node, nodeType);
+         T value = conversionReader().readValue(node, nodeType);
          if (value == null) {
             failWithMessage("Expected field named \"%s\"", fieldName);
          }
          markAsAsserted(fieldName);
          return value;
-      } catch (JsonProcessingException e) {
+      } catch (IOException e) {
          throw fieldFailure(fieldName, "Could not convert value <%s> to <%s>", node, nodeType);
       }
    }
 
+   /**
+    * Fails with the failure of the given check on a field, if any, and otherwise marks the field as asserted.
+    */
+   private SELF checkField(String fieldName, JsonCheck check) {
+      check(check);
+      markAsAsserted(fieldName);
+      return myself;
+   }
+
    protected final void markAsAsserted(String fieldName) {
-      assertedFields.add(fieldName);
+      tracker().mark(actual, fieldName);
+   }
+
+   /**
+    * Returns the shared tracker if deep field tracking is enabled, otherwise one local to this assert.
+    */
+   private AssertedFieldTracker tracker() {
+      AssertedFieldTracker tracker = configuration().tracker();
+      if (tracker != null) {
+         return tracker;
+      }
+      if (localTracker == null) {
+         localTracker = new AssertedFieldTracker(actual);
+      }
+      return localTracker;
+   }
+
+   /**
+    * Passes the value to the requirements with the deep field tracker, if any, attached to the asserts they create.
+    */
+   private <T> void satisfies(T value, Consumer<T> requirements) {
+      AssertedFieldTracker tracker = configuration().tracker();
+      if (tracker != null) {
+         tracker.runAttached(() -> requirements.accept(value));
+      } else {
+         requirements.accept(value);
+      }
    }
 
    private AssertionError fieldFailure(String fieldName, String message, Object... arguments) {
@@ -0,0 +1,89 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Base class of the soft assertions created by {@link JsonSoftAssertions}. A failed check is recorded and the
+ * assertion chain continues. When a node is not available, because navigating to it or converting it has already
+ * failed, further checks on it are skipped rather than reported again.
+ */
+@SuppressWarnings("java:S119")
+public abstract class AbstractSoftJsonAssert<SELF extends AbstractSoftJsonAssert<SELF, ACTUAL>,
+                                             ACTUAL extends JsonNode> {
+
+   private final JsonSoftAssertions softly;
+   private final String pointer;
+   protected final ACTUAL actual;
+   protected final SELF myself;
+
+   AbstractSoftJsonAssert(JsonSoftAssertions softly, ACTUAL actual, String pointer, Class<SELF> selfType) {
+      this.softly = softly;
+      this.actual = actual;
+      this.pointer = pointer;
+      this.myself = selfType.cast(this);
+   }
+
+   public SELF isEqualTo(String expected) {
+      requireNonNull(expected);
+      return isEqualTo(JsonExpectation.compile(expected));
+   }
+
+   public SELF isEqualTo(JsonExpectation expected) {
+      requireNonNull(expected);
+      return check(NodeChecks.isEqualTo(expected.node(), softly.maxDifferences()));
+   }
+
+   /**
+    * Navigates to the node at the given JSON Pointer, see {@link AbstractJsonAssert#at(String)}.
+    */
+   public SoftJsonNodeAssert at(String pointer) {
+      CompiledJsonPath path = CompiledJsonPath.compile(pointer);
+      if (path.hasWildcards()) {
+         throw new IllegalArgumentException("JSON Pointer <" + path + "> contains wildcards");
+      }
+      JsonNode node = actual == null ? null : path.find(actual);
+      if (actual != null && node == null) {
+         record(JsonFailure.of("No node at <%s>, deepest existing node is at <%s>",
+                               path,
+                               JsonPointers.display(path.deepestExisting(actual))));
+      }
+      return new SoftJsonNodeAssert(softly, node, this.pointer + path);
+   }
+
+   final JsonSoftAssertions softly() {
+      return softly;
+   }
+
+   final String pointer() {
+      return pointer;
+   }
+
+   /**
+    * Evaluates the check on the actual node, if available, and records a failure.
+    *
+    * @return whether the check was evaluated and passed
+    */
+   final boolean passes(JsonCheck check) {
+      if (actual == null) {
+         return false;
+      }
+      JsonFailure failure = check.check(actual);
+      if (failure != null) {
+         record(failure);
+         return false;
+      }
+      return true;
+   }
+
+   final SELF check(JsonCheck check) {
+      passes(check);
+      return myself;
+   }
+
+   private void record(JsonFailure failure) {
+      softly.record(pointer.isEmpty() ? failure : failure.at(pointer));
+   }
+
+}
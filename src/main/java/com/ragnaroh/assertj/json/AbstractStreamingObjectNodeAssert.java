@@ -0,0 +1,218 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Base class of the asserts on a JSON object that is read incrementally. The "contains*" methods only record the
+ * requirements, per field; subclasses read the document and evaluate the requirements on each field as soon as the
+ * field has been read.
+ */
+@SuppressWarnings("java:S119")
+public abstract class AbstractStreamingObjectNodeAssert<SELF extends AbstractStreamingObjectNodeAssert<SELF>> {
+
+   private final Map<String, List<Consumer<ObjectNodeAssert>>> plan = new LinkedHashMap<>();
+   private AssertConfiguration configuration = AssertConfiguration.DEFAULT;
+   protected final SELF myself;
+
+   AbstractStreamingObjectNodeAssert(Class<SELF> selfType) {
+      this.myself = selfType.cast(this);
+   }
+
+   public SELF withObjectMapper(ObjectMapper mapper) {
+      requireNonNull(mapper);
+      configuration = configuration.withObjectMapper(mapper);
+      return myself;
+   }
+
+   public SELF withDeserializationFeature(DeserializationFeature feature, boolean state) {
+      requireNonNull(feature);
+      configuration = configuration.withDeserializationFeature(feature, state);
+      return myself;
+   }
+
+   public SELF withRenderer(JsonNodeRenderer renderer) {
+      requireNonNull(renderer);
+      configuration = configuration.withRenderer(renderer);
+      return myself;
+   }
+
+   /**
+    * Records requirements on a single field. The assert passed to the requirements holds an object with only that
+    * field, or an empty object if the document has no such field.
+    */
+   public SELF containsFieldSatisfying(String fieldName, Consumer<ObjectNodeAssert> requirements) {
+      requireNonNull(fieldName);
+      requireNonNull(requirements);
+      plan.computeIfAbsent(fieldName, name -> new ArrayList<>()).add(requirements);
+      return myself;
+   }
+
+   public SELF contains(String fieldName) {
+      return containsFieldSatisfying(fieldName, field -> field.contains(fieldName));
+   }
+
+   public SELF containsString(String fieldName) {
+      return containsFieldSatisfying(fieldName, field -> field.containsString(fieldName));
+   }
+
+   public SELF containsNumber(String fieldName) {
+      return containsFieldSatisfying(fieldName, field -> field.containsNumber(fieldName));
+   }
+
+   public SELF containsInteger(String fieldName) {
+      return containsFieldSatisfying(fieldName, field -> field.containsInteger(fieldName));
+   }
+
+   public SELF containsBoolean(String fieldName) {
+      return containsFieldSatisfying(fieldName, field -> field.containsBoolean(fieldName));
+   }
+
+   public SELF containsNull(String fieldName) {
+      return containsFieldSatisfying(fieldName, field -> field.containsNull(fieldName));
+   }
+
+   public SELF containsObject(String fieldName) {
+      return containsFieldSatisfying(fieldName, field -> field.containsObject(fieldName));
+   }
+
+   public SELF containsArray(String fieldName) {
+      return containsFieldSatisfying(fieldName, field -> field.containsArray(fieldName));
+   }
+
+   public SELF containsEmptyObject(String fieldName) {
+      return containsFieldSatisfying(fieldName, field -> field.containsEmptyObject(fieldName));
+   }
+
+   public SELF containsEmptyArray(String fieldName) {
+      return containsFieldSatisfying(fieldName, field -> field.containsEmptyArray(fieldName));
+   }
+
+   public SELF contains(String fieldName, String expectedValue) {
+      requireNonNull(expectedValue);
+      return containsFieldSatisfying(fieldName, field -> field.contains(fieldName, expectedValue));
+   }
+
+   public SELF contains(String fieldName, int expectedValue) {
+      return containsFieldSatisfying(fieldName, field -> field.contains(fieldName, expectedValue));
+   }
+
+   public SELF contains(String fieldName, double expectedValue) {
+      return containsFieldSatisfying(fieldName, field -> field.contains(fieldName, expectedValue));
+   }
+
+   public SELF contains(String fieldName, BigDecimal expectedValue) {
+      requireNonNull(expectedValue);
+      return containsFieldSatisfying(fieldName, field -> field.contains(fieldName, expectedValue));
+   }
+
+   public SELF containsNumber(String fieldName, String expectedValueAsString) {
+      requireNonNull(expectedValueAsString);
+      return containsFieldSatisfying(fieldName, field -> field.containsNumber(fieldName, expectedValueAsString));
+   }
+
+   public SELF contains(String fieldName, boolean expectedValue) {
+      return containsFieldSatisfying(fieldName, field -> field.contains(fieldName, expectedValue));
+   }
+
+   public SELF contains(String fieldName, LocalDateTime expectedValue) {
+      requireNonNull(expectedValue);
+      return containsFieldSatisfying(fieldName, field -> field.contains(fieldName, expectedValue));
+   }
+
+   public SELF contains(String fieldName, ZonedDateTime expectedValue) {
+      requireNonNull(expectedValue);
+      return containsFieldSatisfying(fieldName, field -> field.contains(fieldName, expectedValue));
+   }
+
+   public SELF contains(String fieldName, Instant expectedValue) {
+      requireNonNull(expectedValue);
+      return containsFieldSatisfying(fieldName, field -> field.contains(fieldName, expectedValue));
+   }
+
+   public SELF containsStringMatching(String fieldName, String valueRegex) {
+      requireNonNull(valueRegex);
+      return containsFieldSatisfying(fieldName, field -> field.containsStringMatching(fieldName, valueRegex));
+   }
+
+   public SELF containsStringMatching(String fieldName, Pattern valuePattern) {
+      requireNonNull(valuePattern);
+      return containsFieldSatisfying(fieldName, field -> field.containsStringMatching(fieldName, valuePattern));
+   }
+
+   public SELF containsNumberMatching(String fieldName, String valueRegex) {
+      requireNonNull(valueRegex);
+      return containsFieldSatisfying(fieldName, field -> field.containsNumberMatching(fieldName, valueRegex));
+   }
+
+   public SELF containsNumberMatching(String fieldName, Pattern valuePattern) {
+      requireNonNull(valuePattern);
+      return containsFieldSatisfying(fieldName, field -> field.containsNumberMatching(fieldName, valuePattern));
+   }
+
+   public SELF containsNodeSatisfying(String fieldName, Consumer<JsonNode> valueRequirements) {
+      requireNonNull(valueRequirements);
+      return containsFieldSatisfying(fieldName,
+                                     field -> field.containsNodeSatisfying(fieldName, valueRequirements));
+   }
+
+   public SELF containsStringSatisfying(String fieldName, Consumer<String> valueRequirements) {
+      requireNonNull(valueRequirements);
+      return containsFieldSatisfying(fieldName,
+                                     field -> field.containsStringSatisfying(fieldName, valueRequirements));
+   }
+
+   public SELF containsObjectSatisfying(String fieldName, Consumer<ObjectNode> valueRequirements) {
+      requireNonNull(valueRequirements);
+      return containsFieldSatisfying(fieldName,
+                                     field -> field.containsObjectSatisfying(fieldName, valueRequirements));
+   }
+
+   public SELF containsArraySatisfying(String fieldName, Consumer<ArrayNode> valueRequirements) {
+      requireNonNull(valueRequirements);
+      return containsFieldSatisfying(fieldName,
+                                     field -> field.containsArraySatisfying(fieldName, valueRequirements));
+   }
+
+   final AssertConfiguration configuration() {
+      return configuration;
+   }
+
+   final Set<String> plannedFields() {
+      return plan.keySet();
+   }
+
+   final void evaluateMissing(Set<String> evaluatedFields) {
+      for (String fieldName : plan.keySet()) {
+         if (!evaluatedFields.contains(fieldName)) {
+            evaluate(fieldName, JsonNodeFactory.instance.objectNode());
+         }
+      }
+   }
+
+   final void evaluate(String fieldName, ObjectNode field) {
+      ObjectNodeAssert fieldAssert = new ObjectNodeAssert(field).withConfiguration(configuration);
+      for (Consumer<ObjectNodeAssert> requirements : plan.get(fieldName)) {
+         requirements.accept(fieldAssert);
+      }
+   }
+
+}
@@ -0,0 +1,305 @@
+package com.ragnaroh.assertj.json;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Non-throwing checks on a JSON array, with the vocabulary and messages of {@link AbstractArrayNodeAssert}.
+ */
+final class ArrayChecks {
+
+   private ArrayChecks() {}
+
+   static JsonCheck isEmpty() {
+      return actual -> actual.size() == 0
+            ? null
+            : JsonFailure.of("Expected empty array, had size <%d>", actual.size());
+   }
+
+   static JsonCheck hasSize(int expectedSize) {
+      return actual -> actual.size() == expectedSize
+            ? null
+            : JsonFailure.of("Expected array size <%d>, was <%d>", expectedSize, actual.size());
+   }
+
+   static JsonCheck containsExactly(String[] expected) {
+      return actual -> {
+         JsonFailure failure = exactSize(actual, expected.length);
+         for (int i = 0; failure == null && i < expected.length; i++) {
+            JsonNode element = actual.get(i);
+            String value = AbstractJsonAssert.toString(element);
+            if (!expected[i].equals(value)) {
+               failure = elementFailure(expected[i], i, value);
+            }
+         }
+         return failure;
+      };
+   }
+
+   static JsonCheck containsExactly(int[] expected) {
+      return actual -> {
+         JsonFailure failure = exactSize(actual, expected.length);
+         for (int i = 0; failure == null && i < expected.length; i++) {
+            JsonNode element = actual.get(i);
+            if (!AbstractJsonAssert.isInt(element) || element.intValue() != expected[i]) {
+               failure = elementFailure(expected[i], i, element);
+            }
+         }
+         return failure;
+      };
+   }
+
+   static JsonCheck containsExactly(long[] expected) {
+      return actual -> {
+         JsonFailure failure = exactSize(actual, expected.length);
+         for (int i = 0; failure == null && i < expected.length; i++) {
+            JsonNode element = actual.get(i);
+            if (!AbstractJsonAssert.isLong(element) || element.longValue() != expected[i]) {
+               failure = elementFailure(expected[i], i, element);
+            }
+         }
+         return failure;
+      };
+   }
+
+   static JsonCheck containsExactly(double[] expected) {
+      return actual -> {
+         JsonFailure failure = exactSize(actual, expected.length);
+         for (int i = 0; failure == null && i < expected.length; i++) {
+            JsonNode element = actual.get(i);
+            if (!element.isNumber() || Double.compare(element.doubleValue(), expected[i]) != 0) {
+               failure = elementFailure(expected[i], i, element);
+            }
+         }
+         return failure;
+      };
+   }
+
+   static JsonCheck containsExactly(boolean[] expected) {
+      return actual -> {
+         JsonFailure failure = exactSize(actual, expected.length);
+         for (int i = 0; failure == null && i < expected.length; i++) {
+            JsonNode element = actual.get(i);
+            if (!element.isBoolean() || element.booleanValue() != expected[i]) {
+               failure = elementFailure(expected[i], i, element);
+            }
+         }
+         return failure;
+      };
+   }
+
+   static JsonCheck containsStringsMatching(Pattern pattern) {
+      return actual -> {
+         Matcher matcher = pattern.matcher("");
+         for (int i = 0; i < actual.size(); i++) {
+            JsonNode element = actual.get(i);
+            if (!element.isTextual()) {
+               return JsonFailure.of("Expected string at array position %d, was <%s>", i, element);
+            }
+            if (!matcher.reset(element.textValue()).matches()) {
+               return regexFailure(pattern, i, element);
+            }
+         }
+         return null;
+      };
+   }
+
+   static JsonCheck containsNumbersMatching(Pattern pattern) {
+      return actual -> {
+         Matcher matcher = pattern.matcher("");
+         for (int i = 0; i < actual.size(); i++) {
+            JsonNode element = actual.get(i);
+            if (!element.isNumber()) {
+               return JsonFailure.of("Expected number at array position %d, was <%s>", i, element);
+            }
+            if (!matcher.reset(element.numberValue().toString()).matches()) {
+               return regexFailure(pattern, i, element);
+            }
+         }
+         return null;
+      };
+   }
+
+   /**
+    * Elements are compared as by {@code isEqualTo}, and looked up by their {@link JsonFingerprints fingerprints}, so
+    * the cost is linear in the total size of both arrays. Duplicates must occur equally often in both.
+    */
+   static JsonCheck containsExactlyInAnyOrder(JsonNode[] expected, int maxDifferences) {
+      return actual -> {
+         JsonFingerprints.Key[] expectedKeys = new JsonFingerprints.Key[expected.length];
+         Map<JsonFingerprints.Key, Deque<Integer>> expectedPositions = new HashMap<>(capacity(expected.length));
+         for (int i = 0; i < expected.length; i++) {
+            expectedKeys[i] = JsonFingerprints.key(expected[i]);
+            expectedPositions.computeIfAbsent(expectedKeys[i], key -> new ArrayDeque<>()).add(i);
+         }
+         ElementDifferences differences = new ElementDifferences(maxDifferences);
+         for (int i = 0; i < actual.size() && !differences.isFull(); i++) {
+            JsonNode element = actual.get(i);
+            Deque<Integer> positions = expectedPositions.get(JsonFingerprints.key(element));
+            if (positions == null || positions.isEmpty()) {
+               differences.unexpected(element, i);
+            } else {
+               positions.poll();
+            }
+         }
+         for (int i = 0; i < expected.length && !differences.isFull(); i++) {
+            Deque<Integer> positions = expectedPositions.get(expectedKeys[i]);
+            if (!positions.isEmpty() && positions.peek() == i) {
+               positions.poll();
+               differences.missing(expected[i], i);
+            }
+         }
+         return differences.failure("Expected array to contain exactly the given elements in any order");
+      };
+   }
+
+   /**
+    * As {@link #containsExactlyInAnyOrder(JsonNode[], int)}, but ignoring how often elements occur.
+    */
+   static JsonCheck containsOnly(JsonNode[] expected, int maxDifferences) {
+      return actual -> {
+         Set<JsonFingerprints.Key> expectedElements = toSet(expected);
+         Set<JsonFingerprints.Key> actualElements = new HashSet<>(capacity(actual.size()));
+         ElementDifferences differences = new ElementDifferences(maxDifferences);
+         for (int i = 0; i < actual.size() && !differences.isFull(); i++) {
+            JsonNode element = actual.get(i);
+            JsonFingerprints.Key key = JsonFingerprints.key(element);
+            actualElements.add(key);
+            if (!expectedElements.contains(key)) {
+               differences.unexpected(element, i);
+            }
+         }
+         addMissing(expected, actualElements, differences);
+         return differences.failure("Expected array to contain only the given elements");
+      };
+   }
+
+   static JsonCheck containsAll(JsonNode[] expected, int maxDifferences) {
+      return actual -> {
+         Set<JsonFingerprints.Key> actualElements = new HashSet<>(capacity(actual.size()));
+         for (JsonNode element : actual) {
+            actualElements.add(JsonFingerprints.key(element));
+         }
+         ElementDifferences differences = new ElementDifferences(maxDifferences);
+         addMissing(expected, actualElements, differences);
+         return differences.failure("Expected array to contain all the given elements");
+      };
+   }
+
+   static JsonCheck containsNone(JsonNode[] unexpected, int maxDifferences) {
+      return actual -> {
+         Set<JsonFingerprints.Key> unexpectedElements = toSet(unexpected);
+         ElementDifferences differences = new ElementDifferences(maxDifferences);
+         for (int i = 0; i < actual.size() && !differences.isFull(); i++) {
+            JsonNode element = actual.get(i);
+            if (unexpectedElements.contains(JsonFingerprints.key(element))) {
+               differences.unexpected(element, i);
+            }
+         }
+         return differences.failure("Expected array to contain none of the given elements");
+      };
+   }
+
+   private static void addMissing(JsonNode[] expected,
+                                  Set<JsonFingerprints.Key> actualElements,
+                                  ElementDifferences differences) {
+      for (int i = 0; i < expected.length && !differences.isFull(); i++) {
+         if (!actualElements.contains(JsonFingerprints.key(expected[i]))) {
+            differences.missing(expected[i], i);
+         }
+      }
+   }
+
+   private static Set<JsonFingerprints.Key> toSet(JsonNode[] elements) {
+      Set<JsonFingerprints.Key> set = new HashSet<>(capacity(elements.length));
+      for (JsonNode element : elements) {
+         set.add(JsonFingerprints.key(element));
+      }
+      return set;
+   }
+
+   private static int capacity(int size) {
+      return (int) (size / 0.75f) + 1;
+   }
+
+   private static JsonFailure exactSize(JsonNode actual, int expectedSize) {
+      return actual.size() == expectedSize
+            ? null
+            : JsonFailure.of("Expected exactly <%d> elements, was <%d>: %s", expectedSize, actual.size(), actual);
+   }
+
+   private static JsonFailure elementFailure(Object expectedElement, int index, Object actualElement) {
+      return JsonFailure.of("Expected <%s> at array position %d, was <%s>", expectedElement, index, actualElement);
+   }
+
+   private static JsonFailure regexFailure(Pattern pattern, int index, JsonNode element) {
+      return JsonFailure.of("Expected value matching regex <%s> at array position %d, was <%s>",
+                            pattern,
+                            index,
+                            element);
+   }
+
+   /**
+    * Collects missing and unexpected elements, up to the given maximum, into a single failure.
+    */
+   private static final class ElementDifferences {
+
+      private final int maxDifferences;
+      private final StringBuilder template = new StringBuilder();
+      private final List<Object> arguments = new ArrayList<>();
+      private int count;
+      private boolean truncated;
+
+      ElementDifferences(int maxDifferences) {
+         this.maxDifferences = maxDifferences;
+      }
+
+      /**
+       * Returns whether a difference has been left out, after which collecting can stop.
+       */
+      boolean isFull() {
+         return truncated;
+      }
+
+      void missing(JsonNode element, int expectedIndex) {
+         add("missing <%s> (expected element %d)", element, expectedIndex);
+      }
+
+      void unexpected(JsonNode element, int index) {
+         add("unexpected <%s> at array position %d", element, index);
+      }
+
+      private void add(String description, JsonNode element, int index) {
+         if (count >= maxDifferences) {
+            truncated = true;
+            return;
+         }
+         template.append(System.lineSeparator()).append("  ").append(description);
+         arguments.add(element);
+         arguments.add(index);
+         count++;
+      }
+
+      JsonFailure failure(String description) {
+         if (count == 0) {
+            return null;
+         }
+         if (truncated) {
+            template.append(System.lineSeparator()).append("  (stopped after ").append(count).append(" differences)");
+         }
+         return JsonFailure.of(description + ", found differences:" + template, arguments.toArray());
+      }
+
+   }
+
+}
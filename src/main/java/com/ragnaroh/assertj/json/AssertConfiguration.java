@@ -0,0 +1,208 @@
+package com.ragnaroh.assertj.json;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Immutable configuration shared by an assert and every assert derived from it. Changes produce a new instance
+ * (copy-on-write), so neither shared readers nor caller-supplied mappers are ever mutated.
+ */
+final class AssertConfiguration {
+
+   static final AssertConfiguration DEFAULT = new AssertConfiguration(null,
+                                                                      Collections.emptyMap(),
+                                                                      JsonDiff.DEFAULT_MAX_DIFFERENCES,
+                                                                      JsonNodeRenderer.DEFAULT,
+                                                                      null,
+                                                                      JsonComparison.STRICT,
+                                                                      null);
+
+   private final ObjectMapper mapper;
+   private final Map<DeserializationFeature, Boolean> deserializationFeatures;
+   private final int maxDifferences;
+   private final JsonNodeRenderer renderer;
+   private final DateTimeFormatter dateTimeFormatter;
+   private final JsonComparison comparison;
+   private final AssertedFieldTracker tracker;
+
+   private volatile ObjectReader reader;
+   private volatile ObjectReader conversionReader;
+
+   private AssertConfiguration(ObjectMapper mapper,
+                               Map<DeserializationFeature, Boolean> deserializationFeatures,
+                               int maxDifferences,
+                               JsonNodeRenderer renderer,
+                               DateTimeFormatter dateTimeFormatter,
+                               JsonComparison comparison,
+                               AssertedFieldTracker tracker) {
+      this.mapper = mapper;
+      this.deserializationFeatures = deserializationFeatures;
+      this.maxDifferences = maxDifferences;
+      this.renderer = renderer;
+      this.dateTimeFormatter = dateTimeFormatter;
+      this.comparison = comparison;
+      this.tracker = tracker;
+   }
+
+   AssertConfiguration withObjectMapper(ObjectMapper mapper) {
+      return new AssertConfiguration(mapper,
+                                     deserializationFeatures,
+                                     maxDifferences,
+                                     renderer,
+                                     dateTimeFormatter,
+                                     comparison,
+                                     tracker);
+   }
+
+   AssertConfiguration withDeserializationFeature(DeserializationFeature feature, boolean state) {
+      Map<DeserializationFeature, Boolean> features = new EnumMap<>(DeserializationFeature.class);
+      features.putAll(deserializationFeatures);
+      features.put(feature, state);
+      return new AssertConfiguration(mapper,
+                                     Collections.unmodifiableMap(features),
+                                     maxDifferences,
+                                     renderer,
+                                     dateTimeFormatter,
+                                     comparison,
+                                     tracker);
+   }
+
+   AssertConfiguration withMaxDifferences(int maxDifferences) {
+      if (maxDifferences <= 0) {
+         throw new IllegalArgumentException("Maximum number of differences must be positive");
+      }
+      return new AssertConfiguration(mapper,
+                                     deserializationFeatures,
+                                     maxDifferences,
+                                     renderer,
+                                     dateTimeFormatter,
+                                     comparison,
+                                     tracker);
+   }
+
+   AssertConfiguration withRenderer(JsonNodeRenderer renderer) {
+      return new AssertConfiguration(mapper,
+                                     deserializationFeatures,
+                                     maxDifferences,
+                                     renderer,
+                                     dateTimeFormatter,
+                                     comparison,
+                                     tracker);
+   }
+
+   AssertConfiguration withDateTimeFormatter(DateTimeFormatter dateTimeFormatter) {
+      return new AssertConfiguration(mapper,
+                                     deserializationFeatures,
+                                     maxDifferences,
+                                     renderer,
+                                     dateTimeFormatter,
+                                     comparison,
+                                     tracker);
+   }
+
+   AssertConfiguration withComparison(JsonComparison comparison) {
+      return new AssertConfiguration(mapper,
+                                     deserializationFeatures,
+                                     maxDifferences,
+                                     renderer,
+                                     dateTimeFormatter,
+                                     comparison,
+                                     tracker);
+   }
+
+   /**
+    * The tracker is shared rather than copied: every assert derived from the tracking one reports to it.
+    */
+   AssertConfiguration withTracker(AssertedFieldTracker tracker) {
+      return new AssertConfiguration(mapper,
+                                     deserializationFeatures,
+                                     maxDifferences,
+                                     renderer,
+                                     dateTimeFormatter,
+                                     comparison,
+                                     tracker);
+   }
+
+   int maxDifferences() {
+      return maxDifferences;
+   }
+
+   JsonNodeRenderer renderer() {
+      return renderer;
+   }
+
+   /**
+    * Returns the custom format of textual date/time values, or {@code null} for the ISO formats.
+    */
+   DateTimeFormatter dateTimeFormatter() {
+      return dateTimeFormatter;
+   }
+
+   JsonComparison comparison() {
+      return comparison;
+   }
+
+   /**
+    * Returns the tracker of asserted fields, or {@code null} if deep field tracking is not enabled.
+    */
+   AssertedFieldTracker tracker() {
+      return tracker;
+   }
+
+   boolean hasObjectMapper() {
+      return mapper != null;
+   }
+
+   /**
+    * Returns whether the given feature is enabled for the readers without a custom mapper.
+    */
+   boolean isEnabled(DeserializationFeature feature) {
+      Boolean state = deserializationFeatures.get(feature);
+      return state != null ? state : feature.enabledByDefault();
+   }
+
+   boolean hasDefaultReader() {
+      return mapper == null && deserializationFeatures.isEmpty();
+   }
+
+   /**
+    * Returns the reader used for parsing JSON text into trees.
+    */
+   ObjectReader reader() {
+      ObjectReader result = reader;
+      if (result == null) {
+         result = configure(mapper != null ? mapper.readerFor(JsonNode.class)
+                                           : ObjectReaders.jsonNodeReader());
+         reader = result;
+      }
+      return result;
+   }
+
+   /**
+    * Returns the reader used for converting trees into Java values, such as date/time types.
+    */
+   ObjectReader conversionReader() {
+      ObjectReader result = conversionReader;
+      if (result == null) {
+         result = mapper != null ? reader() : configure(ObjectReaders.javaTimeReader());
+         conversionReader = result;
+      }
+      return result;
+   }
+
+   private ObjectReader configure(ObjectReader base) {
+      ObjectReader result = base;
+      for (Map.Entry<DeserializationFeature, Boolean> entry : deserializationFeatures.entrySet()) {
+         result = entry.getValue() ? result.with(entry.getKey()) : result.without(entry.getKey());
+      }
+      return result;
+   }
+
+}
@@ -0,0 +1,165 @@
+package com.ragnaroh.assertj.json;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Records which fields of JSON objects have been asserted. Asserted fields are kept per object node (by identity) as a
+ * bitset over the positions of its fields, so marking a field allocates nothing once the node is known, and no field
+ * names are copied. Objects with many fields get a name-to-position index, built once on first use.
+ * <p>
+ * A tracker created for a whole document ({@link AbstractJsonAssert#withDeepFieldTracking()}) is shared by every
+ * assert derived from the tracking assert, and is attached to asserts created on the same thread while
+ * {@code *Satisfying} requirements run, so that nested asserts report back to it.
+ */
+final class AssertedFieldTracker {
+
+   private static final ThreadLocal<AssertedFieldTracker> CURRENT = new ThreadLocal<>();
+
+   /** Objects with at most this many fields are searched linearly instead of being indexed. */
+   private static final int MAX_LINEAR_FIELDS = 16;
+
+   private final JsonNode root;
+   private final Map<JsonNode, FieldMarks> marks = new IdentityHashMap<>();
+   private final Set<JsonNode> fullyAsserted = Collections.newSetFromMap(new IdentityHashMap<>());
+
+   AssertedFieldTracker(JsonNode root) {
+      this.root = root;
+   }
+
+   /**
+    * Returns the tracker attached to the current thread by {@link #runAttached(Runnable)}, if any.
+    */
+   static AssertedFieldTracker current() {
+      return CURRENT.get();
+   }
+
+   void runAttached(Runnable action) {
+      AssertedFieldTracker previous = CURRENT.get();
+      CURRENT.set(this);
+      try {
+         action.run();
+      } finally {
+         if (previous == null) {
+            CURRENT.remove();
+         } else {
+            CURRENT.set(previous);
+         }
+      }
+   }
+
+   synchronized void mark(JsonNode object, String fieldName) {
+      FieldMarks fieldMarks = marks.get(object);
+      if (fieldMarks == null) {
+         fieldMarks = new FieldMarks();
+         marks.put(object, fieldMarks);
+      }
+      int index = fieldMarks.indexOf(object, fieldName);
+      if (index >= 0) {
+         fieldMarks.asserted.set(index);
+      }
+   }
+
+   /**
+    * Marks the given node and everything below it as asserted, e.g. after a successful equality assertion.
+    */
+   synchronized void markAll(JsonNode node) {
+      if (node.isContainerNode()) {
+         fullyAsserted.add(node);
+      }
+   }
+
+   /**
+    * Returns the names of the fields of the given object that have not been asserted.
+    */
+   synchronized List<String> unassertedFields(JsonNode object) {
+      List<String> result = new ArrayList<>();
+      if (fullyAsserted.contains(object)) {
+         return result;
+      }
+      FieldMarks fieldMarks = marks.get(object);
+      Iterator<String> fieldNames = object.fieldNames();
+      for (int i = 0; fieldNames.hasNext(); i++) {
+         String fieldName = fieldNames.next();
+         if (fieldMarks == null || !fieldMarks.asserted.get(i)) {
+            result.add(fieldName);
+         }
+      }
+      return result;
+   }
+
+   /**
+    * Returns the JSON Pointers of all fields in the tracked document that have not been asserted. Below an asserted
+    * field, its value's fields must be asserted too; below an unasserted field, nothing more is reported.
+    */
+   synchronized List<String> unassertedPaths() {
+      List<String> result = new ArrayList<>();
+      collectUnasserted(root, new StringBuilder(), result);
+      return result;
+   }
+
+   private void collectUnasserted(JsonNode node, StringBuilder path, List<String> result) {
+      if (!node.isContainerNode() || fullyAsserted.contains(node)) {
+         return;
+      }
+      int length = path.length();
+      if (node.isObject()) {
+         FieldMarks fieldMarks = marks.get(node);
+         Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+         for (int i = 0; fields.hasNext(); i++) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonPointers.appendToken(path, field.getKey());
+            if (fieldMarks != null && fieldMarks.asserted.get(i)) {
+               collectUnasserted(field.getValue(), path, result);
+            } else {
+               result.add(path.toString());
+            }
+            path.setLength(length);
+         }
+      } else {
+         for (int i = 0; i < node.size(); i++) {
+            JsonPointers.appendIndex(path, i);
+            collectUnasserted(node.get(i), path, result);
+            path.setLength(length);
+         }
+      }
+   }
+
+   private static final class FieldMarks {
+
+      private final BitSet asserted = new BitSet();
+      private Map<String, Integer> index;
+
+      int indexOf(JsonNode object, String fieldName) {
+         if (index == null && object.size() > MAX_LINEAR_FIELDS) {
+            index = new HashMap<>(object.size() * 4 / 3 + 1);
+            Iterator<String> fieldNames = object.fieldNames();
+            for (int i = 0; fieldNames.hasNext(); i++) {
+               index.put(fieldNames.next(), i);
+            }
+         }
+         if (index != null) {
+            Integer position = index.get(fieldName);
+            return position != null ? position : -1;
+         }
+         Iterator<String> fieldNames = object.fieldNames();
+         for (int i = 0; fieldNames.hasNext(); i++) {
+            if (fieldNames.next().equals(fieldName)) {
+               return i;
+            }
+         }
+         return -1;
+      }
+
+   }
+
+}
@@ -1,5 +1,9 @@
 package com.ragnaroh.assertj.json;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Path;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -19,6 +23,72 @@ public class Assertions extends org.assertj.core.api.Assertions {
       return new ArrayNodeAssert(actual);
    }
 
+   public static JsonNodeAssert assertThatJsonFile(Path actual) {
+      return new JsonNodeAssert(ObjectReaders.readJsonNode(actual));
+   }
+
+   public static ObjectNodeAssert assertThatJsonObjectFile(Path actual) {
+      return new ObjectNodeAssert(ObjectReaders.readObjectNode(actual));
+   }
+
+   public static ArrayNodeAssert assertThatJsonArrayFile(Path actual) {
+      return new ArrayNodeAssert(ObjectReaders.readArrayNode(actual));
+   }
+
+   /**
+    * Parses the given data, in the given format, directly into a tree. See {@link JsonFormat} for the formats.
+    */
+   public static JsonNodeAssert assertThatJson(byte[] actual, JsonFormat format) {
+      return new JsonNodeAssert(ObjectReaders.read(actual, format, JsonNode.class, "JSON node"));
+   }
+
+   public static ObjectNodeAssert assertThatJsonObject(byte[] actual, JsonFormat format) {
+      return new ObjectNodeAssert(ObjectReaders.read(actual, format, ObjectNode.class, "JSON object node"));
+   }
+
+   public static ArrayNodeAssert assertThatJsonArray(byte[] actual, JsonFormat format) {
+      return new ArrayNodeAssert(ObjectReaders.read(actual, format, ArrayNode.class, "JSON array node"));
+   }
+
+   /**
+    * Parses the given stream, in the given format, directly into a tree. The stream is closed afterwards.
+    */
+   public static JsonNodeAssert assertThatJson(InputStream actual, JsonFormat format) {
+      return new JsonNodeAssert(ObjectReaders.read(actual, format, JsonNode.class, "JSON node"));
+   }
+
+   public static ObjectNodeAssert assertThatJsonObject(InputStream actual, JsonFormat format) {
+      return new ObjectNodeAssert(ObjectReaders.read(actual, format, ObjectNode.class, "JSON object node"));
+   }
+
+   public static ArrayNodeAssert assertThatJsonArray(InputStream actual, JsonFormat format) {
+      return new ArrayNodeAssert(ObjectReaders.read(actual, format, ArrayNode.class, "JSON array node"));
+   }
+
+   public static StreamingObjectNodeAssert assertThatJson(InputStream actual) {
+      return new StreamingObjectNodeAssert(actual);
+   }
+
+   public static StreamingObjectNodeAssert assertThatJson(Reader actual) {
+      return new StreamingObjectNodeAssert(actual);
+   }
+
+   /**
+    * Returns an assert for a JSON object that arrives in chunks. Record the requirements, then feed the chunks to
+    * {@link ChunkedObjectNodeAssert#startFeeding()}.
+    */
+   public static ChunkedObjectNodeAssert assertThatJsonChunks() {
+      return new ChunkedObjectNodeAssert();
+   }
+
+   public static JsonLinesAssert assertThatJsonLines(Path actual) {
+      return new JsonLinesAssert(actual);
+   }
+
+   public static JsonLinesAssert assertThatJsonLines(InputStream actual) {
+      return new JsonLinesAssert(actual);
+   }
+
    public static ObjectNodeAssert assertThat(ObjectNode actual) {
       return new ObjectNodeAssert(actual);
    }
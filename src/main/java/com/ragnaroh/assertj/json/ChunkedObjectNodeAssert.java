@@ -0,0 +1,22 @@
+package com.ragnaroh.assertj.json;
+
+/**
+ * Assertions on a JSON object that arrives in chunks, such as an asynchronous HTTP body. The "contains*" methods only
+ * record the requirements; the chunks are then fed to the {@link JsonChunkFeeder} returned by
+ * {@link #startFeeding()}, which evaluates the requirements on each field as soon as the field has been read.
+ */
+public class ChunkedObjectNodeAssert extends AbstractStreamingObjectNodeAssert<ChunkedObjectNodeAssert> {
+
+   public ChunkedObjectNodeAssert() {
+      super(ChunkedObjectNodeAssert.class);
+   }
+
+   /**
+    * Starts evaluating the recorded requirements against a document fed in chunks to the returned feeder, which
+    * parses the chunks without blocking as they arrive.
+    */
+   public JsonChunkFeeder startFeeding() {
+      return new JsonChunkFeeder(this, configuration().reader());
+   }
+
+}
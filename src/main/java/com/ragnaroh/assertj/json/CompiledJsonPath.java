@@ -0,0 +1,238 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A JSON Pointer (RFC 6901) parsed into its reference tokens. Compiled paths are immutable and cached by
+ * {@link #compile(String)}, so navigating with the same pointer repeatedly costs only the traversal itself.
+ * <p>
+ * As an extension, a reference token consisting of a single {@code *} is a wildcard that matches every field of an
+ * object and every element of an array, e.g. {@code /items/*}{@code /price}.
+ */
+public final class CompiledJsonPath {
+
+   private static final LruCache<String, CompiledJsonPath> CACHE = new LruCache<>(1024);
+
+   private static final String WILDCARD = "*";
+
+   private final String pointer;
+   private final String[] tokens;
+   private final int[] indices;
+   private final boolean[] wildcards;
+   private final boolean hasWildcards;
+
+   private CompiledJsonPath(String pointer, String[] tokens) {
+      this.pointer = pointer;
+      this.tokens = tokens;
+      this.indices = new int[tokens.length];
+      this.wildcards = new boolean[tokens.length];
+      boolean anyWildcard = false;
+      for (int i = 0; i < tokens.length; i++) {
+         indices[i] = toIndex(tokens[i]);
+         wildcards[i] = WILDCARD.equals(tokens[i]);
+         anyWildcard |= wildcards[i];
+      }
+      this.hasWildcards = anyWildcard;
+   }
+
+   public static CompiledJsonPath compile(String pointer) {
+      requireNonNull(pointer);
+      return CACHE.get(pointer, CompiledJsonPath::parse);
+   }
+
+   private static CompiledJsonPath parse(String pointer) {
+      if (pointer.isEmpty()) {
+         return new CompiledJsonPath(pointer, new String[0]);
+      }
+      if (pointer.charAt(0) != '/') {
+         throw new IllegalArgumentException("JSON Pointer must be empty or start with '/', was <" + pointer + ">");
+      }
+      String[] tokens = pointer.substring(1).split("/", -1);
+      for (int i = 0; i < tokens.length; i++) {
+         tokens[i] = unescape(tokens[i], pointer);
+      }
+      return new CompiledJsonPath(pointer, tokens);
+   }
+
+   private static String unescape(String token, String pointer) {
+      if (token.indexOf('~') < 0) {
+         return token;
+      }
+      StringBuilder result = new StringBuilder(token.length());
+      for (int i = 0; i < token.length(); i++) {
+         char c = token.charAt(i);
+         if (c != '~') {
+            result.append(c);
+         } else if (i + 1 < token.length() && token.charAt(i + 1) == '0') {
+            result.append('~');
+            i++;
+         } else if (i + 1 < token.length() && token.charAt(i + 1) == '1') {
+            result.append('/');
+            i++;
+         } else {
+            throw new IllegalArgumentException("Invalid escape sequence in JSON Pointer <" + pointer + ">");
+         }
+      }
+      return result.toString();
+   }
+
+   /**
+    * Returns the array index denoted by the token, or -1 if the token is not a valid array index.
+    */
+   private static int toIndex(String token) {
+      if (token.isEmpty() || token.length() > 9 || (token.length() > 1 && token.charAt(0) == '0')) {
+         return -1;
+      }
+      for (int i = 0; i < token.length(); i++) {
+         if (token.charAt(i) < '0' || token.charAt(i) > '9') {
+            return -1;
+         }
+      }
+      return Integer.parseInt(token);
+   }
+
+   int length() {
+      return tokens.length;
+   }
+
+   String token(int depth) {
+      return tokens[depth];
+   }
+
+   boolean isWildcard(int depth) {
+      return wildcards[depth];
+   }
+
+   public boolean hasWildcards() {
+      return hasWildcards;
+   }
+
+   /**
+    * Returns the node this path refers to, or {@code null} if there is none.
+    *
+    * @throws IllegalArgumentException if the path contains wildcards
+    */
+   public JsonNode find(JsonNode root) {
+      requireNonNull(root);
+      if (hasWildcards) {
+         throw new IllegalArgumentException("JSON Pointer <" + pointer + "> contains wildcards");
+      }
+      JsonNode node = root;
+      for (int i = 0; i < tokens.length && node != null; i++) {
+         node = child(node, i);
+      }
+      return node;
+   }
+
+   /**
+    * Passes every matching node, along with its concrete pointer, to the given action, and returns the number of
+    * matches. The pointer is only valid for the duration of the call.
+    */
+   int forEachMatch(JsonNode root, BiConsumer<CharSequence, JsonNode> action) {
+      return forEachMatch(root, null, action);
+   }
+
+   /**
+    * As {@link #forEachMatch(JsonNode, BiConsumer)}, also marking the object fields leading to each match as asserted
+    * in the given tracker, if any.
+    */
+   int forEachMatch(JsonNode root, AssertedFieldTracker tracker, BiConsumer<CharSequence, JsonNode> action) {
+      return forEachMatch(root, 0, new StringBuilder(), tracker, action);
+   }
+
+   private int forEachMatch(JsonNode node,
+                            int depth,
+                            StringBuilder path,
+                            AssertedFieldTracker tracker,
+                            BiConsumer<CharSequence, JsonNode> action) {
+      if (depth == tokens.length) {
+         action.accept(path, node);
+         return 1;
+      }
+      int length = path.length();
+      int matches = 0;
+      if (wildcards[depth] && node.isObject()) {
+         Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+         while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonPointers.appendToken(path, field.getKey());
+            int fieldMatches = forEachMatch(field.getValue(), depth + 1, path, tracker, action);
+            if (fieldMatches > 0 && tracker != null) {
+               tracker.mark(node, field.getKey());
+            }
+            matches += fieldMatches;
+            path.setLength(length);
+         }
+      } else if (wildcards[depth] && node.isArray()) {
+         for (int i = 0; i < node.size(); i++) {
+            JsonPointers.appendIndex(path, i);
+            matches += forEachMatch(node.get(i), depth + 1, path, tracker, action);
+            path.setLength(length);
+         }
+      } else if (!wildcards[depth]) {
+         JsonNode child = child(node, depth);
+         if (child != null) {
+            JsonPointers.appendToken(path, tokens[depth]);
+            int childMatches = forEachMatch(child, depth + 1, path, tracker, action);
+            if (childMatches > 0 && tracker != null && node.isObject()) {
+               tracker.mark(node, tokens[depth]);
+            }
+            matches += childMatches;
+            path.setLength(length);
+         }
+      }
+      return matches;
+   }
+
+   /**
+    * Marks the object fields along this path as asserted in the given tracker. Wildcards are not followed.
+    */
+   void markFields(JsonNode root, AssertedFieldTracker tracker) {
+      JsonNode node = root;
+      for (int i = 0; i < tokens.length && !wildcards[i] && node != null; i++) {
+         if (node.isObject()) {
+            tracker.mark(node, tokens[i]);
+         }
+         node = child(node, i);
+      }
+   }
+
+   /**
+    * Returns the pointer of the deepest node along this path that exists in the given tree. Wildcards are not
+    * followed.
+    */
+   String deepestExisting(JsonNode root) {
+      StringBuilder path = new StringBuilder();
+      JsonNode node = root;
+      for (int i = 0; i < tokens.length && !wildcards[i]; i++) {
+         node = child(node, i);
+         if (node == null) {
+            break;
+         }
+         JsonPointers.appendToken(path, tokens[i]);
+      }
+      return path.toString();
+   }
+
+   private JsonNode child(JsonNode node, int depth) {
+      if (node.isObject()) {
+         return node.get(tokens[depth]);
+      }
+      if (node.isArray() && indices[depth] >= 0) {
+         return node.get(indices[depth]);
+      }
+      return null;
+   }
+
+   @Override
+   public String toString() {
+      return pointer;
+   }
+
+}
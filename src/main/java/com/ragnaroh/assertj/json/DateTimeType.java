@@ -0,0 +1,149 @@
+package com.ragnaroh.assertj.json;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE;
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.TimeZone;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Converts JSON nodes to {@code java.time} values without going through Jackson's deserializers for the common cases:
+ * text in the ISO format (or the configured custom format) and integral epoch timestamps. The results match those of
+ * Jackson's {@code JavaTimeModule} with the default context time zone (UTC). Other representations, and conversions
+ * with a custom {@link com.fasterxml.jackson.databind.ObjectMapper}, are delegated to Jackson; a custom format is
+ * applied with a custom mapper too, adjusting to the mapper's time zone.
+ */
+final class DateTimeType<T> {
+
+   private static final ZoneId UTC = TimeZone.getTimeZone("UTC").toZoneId();
+   private static final LruCache<String, DateTimeFormatter> FORMATTERS = new LruCache<>(64);
+
+   static final DateTimeType<LocalDate> LOCAL_DATE =
+         new DateTimeType<>(LocalDate.class, DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from, null, null);
+   static final DateTimeType<LocalDateTime> LOCAL_DATE_TIME =
+         new DateTimeType<>(LocalDateTime.class,
+                            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+                            LocalDateTime::from,
+                            null,
+                            null);
+   static final DateTimeType<ZonedDateTime> ZONED_DATE_TIME =
+         new DateTimeType<>(ZonedDateTime.class,
+                            DateTimeFormatter.ISO_ZONED_DATE_TIME,
+                            ZonedDateTime::from,
+                            instant -> instant.atZone(UTC),
+                            ZonedDateTime::withZoneSameInstant);
+   static final DateTimeType<OffsetDateTime> OFFSET_DATE_TIME =
+         new DateTimeType<>(OffsetDateTime.class,
+                            DateTimeFormatter.ISO_OFFSET_DATE_TIME,
+                            OffsetDateTime::from,
+                            instant -> instant.atOffset(ZoneOffset.UTC),
+                            (value, zone) -> value.withOffsetSameInstant(zone.getRules()
+                                                                             .getOffset(value.toInstant())));
+   static final DateTimeType<Instant> INSTANT =
+         new DateTimeType<>(Instant.class,
+                            DateTimeFormatter.ISO_INSTANT,
+                            Instant::from,
+                            Function.identity(),
+                            null);
+
+   private final Class<T> type;
+   private final DateTimeFormatter defaultFormatter;
+   private final TemporalQuery<T> query;
+   private final Function<Instant, T> fromInstant;
+   private final BiFunction<T, ZoneId, T> toContextTimeZone;
+
+   private DateTimeType(Class<T> type,
+                        DateTimeFormatter defaultFormatter,
+                        TemporalQuery<T> query,
+                        Function<Instant, T> fromInstant,
+                        BiFunction<T, ZoneId, T> toContextTimeZone) {
+      this.type = type;
+      this.defaultFormatter = defaultFormatter;
+      this.query = query;
+      this.fromInstant = fromInstant;
+      this.toContextTimeZone = toContextTimeZone;
+   }
+
+   /**
+    * Returns a formatter for the given pattern, compiled once and cached.
+    */
+   static DateTimeFormatter formatter(String pattern) {
+      return FORMATTERS.get(pattern, DateTimeFormatter::ofPattern);
+   }
+
+   Class<T> type() {
+      return type;
+   }
+
+   String name() {
+      return type.getSimpleName();
+   }
+
+   /**
+    * Returns the value of the given node, or {@code null} if it cannot be converted.
+    */
+   T convert(JsonNode node, AssertConfiguration configuration) {
+      DateTimeFormatter customFormatter = configuration.dateTimeFormatter();
+      if (node.isTextual() && (customFormatter != null || !configuration.hasObjectMapper())) {
+         T value = parse(node.textValue(), customFormatter != null ? customFormatter : defaultFormatter);
+         if (value != null) {
+            return inContextTimeZone(value, configuration);
+         }
+         if (customFormatter != null) {
+            return null;
+         }
+      } else if (!configuration.hasObjectMapper()
+            && fromInstant != null
+            && node.isIntegralNumber()
+            && node.canConvertToLong()) {
+         long timestamp = node.longValue();
+         return fromInstant.apply(configuration.isEnabled(READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+               ? Instant.ofEpochSecond(timestamp)
+               : Instant.ofEpochMilli(timestamp));
+      }
+      try {
+         return configuration.conversionReader().readValue(node, type);
+      } catch (IOException e) {
+         return null;
+      }
+   }
+
+   private T inContextTimeZone(T value, AssertConfiguration configuration) {
+      if (toContextTimeZone == null) {
+         return value;
+      }
+      if (!configuration.hasObjectMapper()) {
+         return configuration.isEnabled(ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+               ? toContextTimeZone.apply(value, UTC)
+               : value;
+      }
+      ObjectReader reader = configuration.conversionReader();
+      return reader.isEnabled(ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+            ? toContextTimeZone.apply(value, reader.getConfig().getTimeZone().toZoneId())
+            : value;
+   }
+
+   private T parse(String text, DateTimeFormatter formatter) {
+      try {
+         return formatter.parse(text, query);
+      } catch (DateTimeException e) {
+         return null;
+      }
+   }
+
+}
@@ -0,0 +1,135 @@
+package com.ragnaroh.assertj.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * An expected numeric value, compared with number nodes by dispatching on their
+ * {@link com.fasterxml.jackson.core.JsonParser.NumberType NumberType}. Integral and double values are compared as
+ * primitives; only mixed comparisons that primitives cannot decide exactly fall back to {@link BigDecimal}. The result
+ * is always that of comparing the {@link BigDecimal} representations, as {@link AbstractJsonAssert#toBigDecimal} does.
+ */
+final class ExpectedNumber {
+
+   /** Integers up to this magnitude are exactly representable as doubles. */
+   private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+   private final boolean isLong;
+   private final boolean isDouble;
+   private final boolean isFractional;
+   private final long longValue;
+   private final double doubleValue;
+   private BigDecimal decimal;
+
+   private ExpectedNumber(boolean isLong,
+                          long longValue,
+                          boolean isDouble,
+                          double doubleValue,
+                          boolean isFractional,
+                          BigDecimal decimal) {
+      this.isLong = isLong;
+      this.longValue = longValue;
+      this.isDouble = isDouble;
+      this.doubleValue = doubleValue;
+      this.isFractional = isFractional;
+      this.decimal = decimal;
+   }
+
+   static ExpectedNumber of(long value) {
+      return new ExpectedNumber(true, value, false, 0, false, null);
+   }
+
+   static ExpectedNumber of(double value) {
+      if (!Double.isFinite(value)) {
+         throw new NumberFormatException("Infinite or NaN");
+      }
+      return new ExpectedNumber(false, 0, true, value, false, null);
+   }
+
+   static ExpectedNumber of(BigDecimal value) {
+      BigDecimal stripped = value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+      boolean isFractional = stripped.scale() > 0;
+      boolean fitsLong = !isFractional && stripped.precision() - stripped.scale() <= 18;
+      return new ExpectedNumber(fitsLong, fitsLong ? stripped.longValue() : 0, false, 0, isFractional, value);
+   }
+
+   static ExpectedNumber of(Number value) {
+      if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+         return of(value.longValue());
+      }
+      if (value instanceof Double) {
+         return of(value.doubleValue());
+      }
+      if (value instanceof BigDecimal) {
+         return of((BigDecimal) value);
+      }
+      if (value instanceof BigInteger) {
+         return of(new BigDecimal((BigInteger) value));
+      }
+      return of(new BigDecimal(value.toString()));
+   }
+
+   /**
+    * Returns whether the given number node is numerically equal to this value.
+    */
+   boolean matches(JsonNode actual) {
+      switch (actual.numberType()) {
+         case INT:
+         case LONG:
+            return matches(actual.longValue());
+         case DOUBLE:
+            return matches(actual.doubleValue());
+         case BIG_DECIMAL:
+            return actual.decimalValue().compareTo(decimal()) == 0;
+         default:
+            return AbstractJsonAssert.toBigDecimal(actual).compareTo(decimal()) == 0;
+      }
+   }
+
+   private boolean matches(long actual) {
+      if (isLong) {
+         return actual == longValue;
+      }
+      if (isDouble && isExactDouble(actual)) {
+         return actual == doubleValue;
+      }
+      if (isFractional) {
+         return false;
+      }
+      return BigDecimal.valueOf(actual).compareTo(decimal()) == 0;
+   }
+
+   private boolean matches(double actual) {
+      if (isDouble) {
+         return actual == doubleValue;
+      }
+      if (isLong && isExactDouble(longValue)) {
+         return actual == longValue;
+      }
+      return BigDecimal.valueOf(actual).compareTo(decimal()) == 0;
+   }
+
+   private static boolean isExactDouble(long value) {
+      return value >= -MAX_EXACT_DOUBLE && value <= MAX_EXACT_DOUBLE;
+   }
+
+   private BigDecimal decimal() {
+      BigDecimal result = decimal;
+      if (result == null) {
+         result = isLong ? BigDecimal.valueOf(longValue) : BigDecimal.valueOf(doubleValue);
+         decimal = result;
+      }
+      return result;
+   }
+
+   /**
+    * Returns the {@link BigDecimal} representation, as reported in failure messages.
+    */
+   @Override
+   public String toString() {
+      return decimal().toString();
+   }
+
+}
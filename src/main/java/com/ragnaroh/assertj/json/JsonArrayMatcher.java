@@ -0,0 +1,118 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Non-throwing counterpart of {@link ArrayNodeAssert}, see {@link JsonMatchers#array()}.
+ */
+public final class JsonArrayMatcher extends JsonMatcher<JsonArrayMatcher> {
+
+   static final JsonArrayMatcher EMPTY = new JsonArrayMatcher(new JsonCheck[0], JsonNodeRenderer.DEFAULT);
+
+   private JsonArrayMatcher(JsonCheck[] checks, JsonNodeRenderer renderer) {
+      super(NodeChecks.isArrayNode(), checks, renderer);
+   }
+
+   public JsonArrayMatcher isEmpty() {
+      return with(ArrayChecks.isEmpty());
+   }
+
+   public JsonArrayMatcher hasSize(int expectedSize) {
+      return with(ArrayChecks.hasSize(expectedSize));
+   }
+
+   public JsonArrayMatcher containsExactly(String... expected) {
+      requireNonNull(expected);
+      return with(ArrayChecks.containsExactly(expected.clone()));
+   }
+
+   public JsonArrayMatcher containsExactly(int... expected) {
+      requireNonNull(expected);
+      return with(ArrayChecks.containsExactly(expected.clone()));
+   }
+
+   public JsonArrayMatcher containsExactly(long... expected) {
+      requireNonNull(expected);
+      return with(ArrayChecks.containsExactly(expected.clone()));
+   }
+
+   public JsonArrayMatcher containsExactly(double... expected) {
+      requireNonNull(expected);
+      return with(ArrayChecks.containsExactly(expected.clone()));
+   }
+
+   public JsonArrayMatcher containsExactly(boolean... expected) {
+      requireNonNull(expected);
+      return with(ArrayChecks.containsExactly(expected.clone()));
+   }
+
+   public JsonArrayMatcher containsExactlyInAnyOrder(JsonNode... expected) {
+      requireNonNull(expected);
+      return with(ArrayChecks.containsExactlyInAnyOrder(expected.clone(), JsonDiff.DEFAULT_MAX_DIFFERENCES));
+   }
+
+   public JsonArrayMatcher containsExactlyInAnyOrder(JsonExpectation expected) {
+      requireNonNull(expected);
+      return with(ArrayChecks.containsExactlyInAnyOrder(expected.elements(), JsonDiff.DEFAULT_MAX_DIFFERENCES));
+   }
+
+   public JsonArrayMatcher containsOnly(JsonNode... expected) {
+      requireNonNull(expected);
+      return with(ArrayChecks.containsOnly(expected.clone(), JsonDiff.DEFAULT_MAX_DIFFERENCES));
+   }
+
+   public JsonArrayMatcher containsOnly(JsonExpectation expected) {
+      requireNonNull(expected);
+      return with(ArrayChecks.containsOnly(expected.elements(), JsonDiff.DEFAULT_MAX_DIFFERENCES));
+   }
+
+   public JsonArrayMatcher containsAll(JsonNode... expected) {
+      requireNonNull(expected);
+      return with(ArrayChecks.containsAll(expected.clone(), JsonDiff.DEFAULT_MAX_DIFFERENCES));
+   }
+
+   public JsonArrayMatcher containsAll(JsonExpectation expected) {
+      requireNonNull(expected);
+      return with(ArrayChecks.containsAll(expected.elements(), JsonDiff.DEFAULT_MAX_DIFFERENCES));
+   }
+
+   public JsonArrayMatcher containsNone(JsonNode... unexpected) {
+      requireNonNull(unexpected);
+      return with(ArrayChecks.containsNone(unexpected.clone(), JsonDiff.DEFAULT_MAX_DIFFERENCES));
+   }
+
+   public JsonArrayMatcher containsNone(JsonExpectation unexpected) {
+      requireNonNull(unexpected);
+      return with(ArrayChecks.containsNone(unexpected.elements(), JsonDiff.DEFAULT_MAX_DIFFERENCES));
+   }
+
+   public JsonArrayMatcher containsStringsMatching(String regex) {
+      requireNonNull(regex);
+      return containsStringsMatching(Patterns.compile(regex));
+   }
+
+   public JsonArrayMatcher containsStringsMatching(Pattern pattern) {
+      requireNonNull(pattern);
+      return with(ArrayChecks.containsStringsMatching(pattern));
+   }
+
+   public JsonArrayMatcher containsNumbersMatching(String regex) {
+      requireNonNull(regex);
+      return containsNumbersMatching(Patterns.compile(regex));
+   }
+
+   public JsonArrayMatcher containsNumbersMatching(Pattern pattern) {
+      requireNonNull(pattern);
+      return with(ArrayChecks.containsNumbersMatching(pattern));
+   }
+
+   @Override
+   JsonArrayMatcher newInstance(JsonCheck[] checks, JsonNodeRenderer renderer) {
+      return new JsonArrayMatcher(checks, renderer);
+   }
+
+}
@@ -0,0 +1,16 @@
+package com.ragnaroh.assertj.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A non-throwing, stateless check of a JSON node.
+ */
+@FunctionalInterface
+interface JsonCheck {
+
+   /**
+    * Returns the failure, or {@code null} if the node passes.
+    */
+   JsonFailure check(JsonNode actual);
+
+}
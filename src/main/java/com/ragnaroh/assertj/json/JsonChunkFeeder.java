@@ -0,0 +1,262 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Feeds a JSON document, chunk by chunk, to the requirements recorded on a {@link ChunkedObjectNodeAssert}, see
+ * {@link ChunkedObjectNodeAssert#startFeeding()}. The chunks are parsed with Jackson's non-blocking parser as they
+ * arrive, and requirements on a field are evaluated as soon as the field's value is complete, so {@code feed} fails
+ * with the violation without waiting for the rest of the document. Only the values of fields with recorded
+ * requirements are built, with the reader's node factory and deserialization features; chunks are not retained.
+ * <p>
+ * Typical sources are asynchronous HTTP bodies: call {@code feed} for each chunk received (for instance from a
+ * reactive subscriber's {@code onNext}), and {@link #finish()} once the body is complete. Chunks must be fed in order
+ * and one at a time; instances are not thread-safe.
+ */
+public final class JsonChunkFeeder {
+
+   private final ChunkedObjectNodeAssert owner;
+   private final ObjectReader reader;
+   private final JsonNodeFactory nodes;
+   private final JsonParser parser;
+   private final Set<String> plannedFields;
+   private final Set<String> evaluatedFields = new HashSet<>();
+   private final Deque<ContainerNode<?>> values = new ArrayDeque<>();
+   private byte[] copyBuffer = new byte[0];
+   private int depth;
+   private boolean rootStarted;
+   private boolean rootEnded;
+   private String fieldName;
+   private boolean capturing;
+   private boolean closed;
+
+   JsonChunkFeeder(ChunkedObjectNodeAssert owner, ObjectReader reader) {
+      this.owner = owner;
+      this.reader = reader;
+      this.nodes = reader.getConfig().getNodeFactory();
+      this.plannedFields = owner.plannedFields();
+      try {
+         this.parser = reader.getFactory().createNonBlockingByteArrayParser();
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   public JsonChunkFeeder feed(byte[] chunk) {
+      requireNonNull(chunk);
+      return feed(chunk, 0, chunk.length);
+   }
+
+   /**
+    * Parses the given part of the array, which is not used after this method returns. As with
+    * {@link StreamingObjectNodeAssert#verify()}, anything after the root object is ignored.
+    *
+    * @throws AssertionError if a field whose value is completed by this chunk violates its requirements
+    */
+   public JsonChunkFeeder feed(byte[] chunk, int offset, int length) {
+      requireNonNull(chunk);
+      if (offset < 0 || length < 0 || offset + length > chunk.length) {
+         throw new IndexOutOfBoundsException("Invalid chunk range " + offset + "+" + length + " of " + chunk.length);
+      }
+      ensureOpen();
+      if (rootEnded) {
+         return this;
+      }
+      try {
+         ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(chunk, offset, offset + length);
+         parseAvailable();
+      } catch (JsonProcessingException e) {
+         throw parseFailure(e);
+      } catch (IOException e) {
+         closed = true;
+         throw new UncheckedIOException(e);
+      }
+      return this;
+   }
+
+   /**
+    * Parses the remaining bytes of the given buffer, and advances its position to its limit.
+    */
+   public JsonChunkFeeder feed(ByteBuffer chunk) {
+      requireNonNull(chunk);
+      int length = chunk.remaining();
+      if (chunk.hasArray()) {
+         feed(chunk.array(), chunk.arrayOffset() + chunk.position(), length);
+      } else {
+         if (copyBuffer.length < length) {
+            copyBuffer = new byte[length];
+         }
+         chunk.duplicate().get(copyBuffer, 0, length);
+         feed(copyBuffer, 0, length);
+      }
+      chunk.position(chunk.limit());
+      return this;
+   }
+
+   /**
+    * Signals the end of the document, and evaluates the requirements on fields that the document did not contain.
+    */
+   public void finish() {
+      ensureOpen();
+      try {
+         ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+         parseAvailable();
+      } catch (JsonProcessingException e) {
+         throw parseFailure(e);
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      } finally {
+         closed = true;
+      }
+      if (!rootStarted) {
+         throw new AssertionError("Expected JSON object");
+      }
+      owner.evaluateMissing(evaluatedFields);
+   }
+
+   private void ensureOpen() {
+      if (closed) {
+         throw new IllegalStateException("The document has been finished or has failed");
+      }
+   }
+
+   private void parseAvailable() throws IOException {
+      JsonToken token;
+      while (!rootEnded && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+         try {
+            handle(token);
+         } catch (AssertionError e) {
+            closed = true;
+            throw e;
+         }
+      }
+   }
+
+   private void handle(JsonToken token) throws IOException {
+      if (!rootStarted) {
+         if (token != JsonToken.START_OBJECT) {
+            throw new AssertionError("Expected JSON object");
+         }
+         rootStarted = true;
+         depth = 1;
+         return;
+      }
+      if (depth == 1 && token == JsonToken.FIELD_NAME) {
+         fieldName = parser.getCurrentName();
+         capturing = plannedFields.contains(fieldName);
+         return;
+      }
+      if (token.isStructStart()) {
+         depth++;
+         if (capturing) {
+            ContainerNode<?> container = token == JsonToken.START_OBJECT
+                  ? nodes.objectNode()
+                  : nodes.arrayNode();
+            addToParent(container);
+            values.push(container);
+         }
+      } else if (token.isStructEnd()) {
+         depth--;
+         if (depth == 0) {
+            rootEnded = true;
+         } else if (capturing) {
+            ContainerNode<?> container = values.pop();
+            if (values.isEmpty()) {
+               complete(container);
+            }
+         }
+      } else if (token != JsonToken.FIELD_NAME && capturing) {
+         JsonNode value = scalar(token);
+         if (values.isEmpty()) {
+            complete(value);
+         } else {
+            addToParent(value);
+         }
+      }
+   }
+
+   private void addToParent(JsonNode value) throws IOException {
+      ContainerNode<?> parent = values.peek();
+      if (parent instanceof ObjectNode) {
+         ((ObjectNode) parent).set(parser.getCurrentName(), value);
+      } else if (parent instanceof ArrayNode) {
+         ((ArrayNode) parent).add(value);
+      }
+   }
+
+   private void complete(JsonNode value) {
+      capturing = false;
+      ObjectNode field = nodes.objectNode();
+      field.set(fieldName, value);
+      evaluatedFields.add(fieldName);
+      owner.evaluate(fieldName, field);
+   }
+
+   /**
+    * Builds scalar values as {@link ObjectReader#readTree} does, so that requirements see the same nodes as with
+    * {@link StreamingObjectNodeAssert#verify()}.
+    */
+   private JsonNode scalar(JsonToken token) throws IOException {
+      switch (token) {
+         case VALUE_STRING:
+            return nodes.textNode(parser.getText());
+         case VALUE_NUMBER_INT:
+            return integer(parser.getNumberType());
+         case VALUE_NUMBER_FLOAT:
+            return parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL
+                         || reader.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                  ? nodes.numberNode(parser.getDecimalValue())
+                  : nodes.numberNode(parser.getDoubleValue());
+         case VALUE_TRUE:
+            return nodes.booleanNode(true);
+         case VALUE_FALSE:
+            return nodes.booleanNode(false);
+         case VALUE_EMBEDDED_OBJECT:
+            return nodes.pojoNode(parser.getEmbeddedObject());
+         default:
+            return nodes.nullNode();
+      }
+   }
+
+   private JsonNode integer(JsonParser.NumberType type) throws IOException {
+      if (reader.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)) {
+         return nodes.numberNode(parser.getBigIntegerValue());
+      }
+      switch (type) {
+         case INT:
+            return reader.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS)
+                  ? nodes.numberNode(parser.getLongValue())
+                  : nodes.numberNode(parser.getIntValue());
+         case LONG:
+            return nodes.numberNode(parser.getLongValue());
+         default:
+            return nodes.numberNode(parser.getBigIntegerValue());
+      }
+   }
+
+   private IllegalArgumentException parseFailure(JsonProcessingException e) {
+      closed = true;
+      return new IllegalArgumentException("Could not parse actual value as JSON object node: " + e.getMessage());
+   }
+
+}
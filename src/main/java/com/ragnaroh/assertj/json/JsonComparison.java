@@ -0,0 +1,365 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * How {@code isEqualTo} compares an actual document with the expected one, see
+ * {@link AbstractJsonAssert#withComparison(JsonComparison)}. The default is {@link #STRICT}.
+ * <p>
+ * Options can be given for the whole document or for a path, a JSON Pointer in which {@code *} matches any field or
+ * array index. Options given for a path apply to the node at that path and everything below it, overriding options
+ * given for enclosing paths. Instances are immutable; every method returns a new instance.
+ * <p>
+ * Documents are still compared in a single walk. Arrays compared regardless of order are matched by the elements'
+ * structural hash codes first; only elements without an identical counterpart are compared pairwise.
+ */
+public final class JsonComparison {
+
+   public static final JsonComparison STRICT = new JsonComparison(Collections.emptyMap());
+
+   private final Map<String, Rule> rules;
+   private volatile Scope rootScope;
+
+   private JsonComparison(Map<String, Rule> rules) {
+      this.rules = rules;
+   }
+
+   public JsonComparison ignoringArrayOrder() {
+      return ignoringArrayOrderAt("");
+   }
+
+   public JsonComparison ignoringArrayOrderAt(String pointer) {
+      return with(pointer, rule -> rule.withIgnoreArrayOrder(true));
+   }
+
+   /**
+    * Allows the actual objects to have fields that the expected objects do not have.
+    */
+   public JsonComparison allowingExtraFields() {
+      return allowingExtraFieldsAt("");
+   }
+
+   public JsonComparison allowingExtraFieldsAt(String pointer) {
+      return with(pointer, rule -> rule.withAllowExtraFields(true));
+   }
+
+   /**
+    * Compares numbers by numeric value, so that {@code 1}, {@code 1.0} and {@code 1E0} are equal.
+    */
+   public JsonComparison comparingNumbersByValue() {
+      return comparingNumbersByValueAt("");
+   }
+
+   public JsonComparison comparingNumbersByValueAt(String pointer) {
+      return with(pointer, rule -> rule.withNumbers(NumberMode.VALUE, 0));
+   }
+
+   /**
+    * Considers numbers equal when they differ by at most the given tolerance.
+    */
+   public JsonComparison withNumericTolerance(double tolerance) {
+      return withNumericToleranceAt("", tolerance);
+   }
+
+   public JsonComparison withNumericToleranceAt(String pointer, double tolerance) {
+      if (!(tolerance >= 0) || Double.isInfinite(tolerance)) {
+         throw new IllegalArgumentException("Numeric tolerance must be finite and not negative, was " + tolerance);
+      }
+      return with(pointer, rule -> rule.withNumbers(NumberMode.TOLERANCE, tolerance));
+   }
+
+   /**
+    * Skips the nodes at the given paths, in both documents.
+    */
+   public JsonComparison ignoringPaths(String... pointers) {
+      requireNonNull(pointers);
+      JsonComparison result = this;
+      for (String pointer : pointers) {
+         result = result.with(pointer, rule -> rule.withIgnored());
+      }
+      return result;
+   }
+
+   private JsonComparison with(String pointer, UnaryOperator<Rule> change) {
+      CompiledJsonPath.compile(pointer);
+      Map<String, Rule> result = new LinkedHashMap<>(rules);
+      result.put(pointer, change.apply(rules.getOrDefault(pointer, Rule.NONE)));
+      return new JsonComparison(Collections.unmodifiableMap(result));
+   }
+
+   /**
+    * Returns the options in effect at the root of the compared documents.
+    */
+   Scope rootScope() {
+      Scope result = rootScope;
+      if (result == null) {
+         PathNode root = new PathNode();
+         for (Map.Entry<String, Rule> entry : rules.entrySet()) {
+            root.add(CompiledJsonPath.compile(entry.getKey()), 0, entry.getValue());
+         }
+         result = Scope.DEFAULT.enter(Collections.emptyList(), Collections.singletonList(root));
+         rootScope = result;
+      }
+      return result;
+   }
+
+   @Override
+   public String toString() {
+      return rules.isEmpty() ? "strict" : rules.toString();
+   }
+
+   enum NumberMode {
+      EXACT,
+      VALUE,
+      TOLERANCE
+   }
+
+   /**
+    * The options given for one path; {@code null} values are inherited from enclosing paths.
+    */
+   private static final class Rule {
+
+      static final Rule NONE = new Rule(null, null, null, 0, false);
+
+      private final Boolean ignoreArrayOrder;
+      private final Boolean allowExtraFields;
+      private final NumberMode numbers;
+      private final double tolerance;
+      private final boolean ignored;
+
+      private Rule(Boolean ignoreArrayOrder,
+                   Boolean allowExtraFields,
+                   NumberMode numbers,
+                   double tolerance,
+                   boolean ignored) {
+         this.ignoreArrayOrder = ignoreArrayOrder;
+         this.allowExtraFields = allowExtraFields;
+         this.numbers = numbers;
+         this.tolerance = tolerance;
+         this.ignored = ignored;
+      }
+
+      Rule withIgnoreArrayOrder(boolean ignoreArrayOrder) {
+         return new Rule(ignoreArrayOrder, allowExtraFields, numbers, tolerance, ignored);
+      }
+
+      Rule withAllowExtraFields(boolean allowExtraFields) {
+         return new Rule(ignoreArrayOrder, allowExtraFields, numbers, tolerance, ignored);
+      }
+
+      Rule withNumbers(NumberMode numbers, double tolerance) {
+         return new Rule(ignoreArrayOrder, allowExtraFields, numbers, tolerance, ignored);
+      }
+
+      Rule withIgnored() {
+         return new Rule(ignoreArrayOrder, allowExtraFields, numbers, tolerance, true);
+      }
+
+      @Override
+      public String toString() {
+         List<String> options = new ArrayList<>();
+         if (ignored) {
+            options.add("ignored");
+         }
+         if (ignoreArrayOrder != null) {
+            options.add("ignoreArrayOrder=" + ignoreArrayOrder);
+         }
+         if (allowExtraFields != null) {
+            options.add("allowExtraFields=" + allowExtraFields);
+         }
+         if (numbers != null) {
+            options.add(numbers == NumberMode.TOLERANCE ? "tolerance=" + tolerance : "numbers=" + numbers);
+         }
+         return options.toString();
+      }
+
+   }
+
+   /**
+    * A node of the tree of rule paths, one level per pointer token.
+    */
+   private static final class PathNode {
+
+      private final Map<String, PathNode> children = new HashMap<>();
+      private PathNode wildcard;
+      private Rule rule;
+
+      void add(CompiledJsonPath path, int depth, Rule rule) {
+         if (depth == path.length()) {
+            this.rule = rule;
+            return;
+         }
+         PathNode child;
+         if (path.isWildcard(depth)) {
+            if (wildcard == null) {
+               wildcard = new PathNode();
+            }
+            child = wildcard;
+         } else {
+            child = children.computeIfAbsent(path.token(depth), token -> new PathNode());
+         }
+         child.add(path, depth + 1, rule);
+      }
+
+      boolean isLeaf() {
+         return children.isEmpty() && wildcard == null;
+      }
+
+   }
+
+   /**
+    * The options in effect at a node of the compared documents, along with the rule paths that may apply below it.
+    * Below the deepest rule, child scopes are this scope itself, so strict comparison allocates no scopes at all.
+    */
+   static final class Scope {
+
+      static final Scope DEFAULT = new Scope(false, false, NumberMode.EXACT, 0, false, new PathNode[0]);
+
+      private final boolean ignoreArrayOrder;
+      private final boolean allowExtraFields;
+      private final NumberMode numbers;
+      private final double tolerance;
+      private final boolean ignored;
+      private final PathNode[] candidates;
+
+      private Scope(boolean ignoreArrayOrder,
+                    boolean allowExtraFields,
+                    NumberMode numbers,
+                    double tolerance,
+                    boolean ignored,
+                    PathNode[] candidates) {
+         this.ignoreArrayOrder = ignoreArrayOrder;
+         this.allowExtraFields = allowExtraFields;
+         this.numbers = numbers;
+         this.tolerance = tolerance;
+         this.ignored = ignored;
+         this.candidates = candidates;
+      }
+
+      boolean ignoresArrayOrder() {
+         return ignoreArrayOrder;
+      }
+
+      boolean allowsExtraFields() {
+         return allowExtraFields;
+      }
+
+      boolean isIgnored() {
+         return ignored;
+      }
+
+      NumberMode numberMode() {
+         return numbers;
+      }
+
+      /**
+       * Returns whether rules below this node name array indices, so that elements at different positions may be
+       * compared under different options.
+       */
+      boolean hasIndexRules() {
+         for (PathNode candidate : candidates) {
+            for (String token : candidate.children.keySet()) {
+               if (!token.isEmpty() && token.chars().allMatch(Character::isDigit)) {
+                  return true;
+               }
+            }
+         }
+         return false;
+      }
+
+      /**
+       * Returns whether the given number nodes are equal under these options.
+       */
+      boolean numbersEqual(JsonNode expected, JsonNode actual) {
+         switch (numbers) {
+            case VALUE:
+               return ExpectedNumber.of(expected.numberValue()).matches(actual);
+            case TOLERANCE:
+               return Math.abs(expected.doubleValue() - actual.doubleValue()) <= tolerance;
+            default:
+               return expected.equals(actual);
+         }
+      }
+
+      Scope field(String fieldName) {
+         if (candidates.length == 0) {
+            return this;
+         }
+         List<PathNode> wildcardMatches = new ArrayList<>(candidates.length);
+         List<PathNode> concreteMatches = new ArrayList<>(candidates.length);
+         for (PathNode candidate : candidates) {
+            addIfPresent(wildcardMatches, candidate.wildcard);
+            addIfPresent(concreteMatches, candidate.children.get(fieldName));
+         }
+         return enter(wildcardMatches, concreteMatches);
+      }
+
+      Scope element(int index) {
+         if (candidates.length == 0) {
+            return this;
+         }
+         List<PathNode> wildcardMatches = new ArrayList<>(candidates.length);
+         List<PathNode> concreteMatches = new ArrayList<>(candidates.length);
+         for (PathNode candidate : candidates) {
+            addIfPresent(wildcardMatches, candidate.wildcard);
+            if (!candidate.children.isEmpty()) {
+               addIfPresent(concreteMatches, candidate.children.get(Integer.toString(index)));
+            }
+         }
+         return enter(wildcardMatches, concreteMatches);
+      }
+
+      private static void addIfPresent(List<PathNode> matches, PathNode node) {
+         if (node != null) {
+            matches.add(node);
+         }
+      }
+
+      /**
+       * Returns the scope of a node matched by the given rule paths. Rules of concrete paths are applied last, so
+       * they override those of wildcard paths.
+       */
+      Scope enter(List<PathNode> wildcardMatches, List<PathNode> concreteMatches) {
+         Scope result = this;
+         List<PathNode> newCandidates = new ArrayList<>(wildcardMatches.size() + concreteMatches.size());
+         for (List<PathNode> matches : Arrays.asList(wildcardMatches, concreteMatches)) {
+            for (PathNode match : matches) {
+               if (match.rule != null) {
+                  result = result.apply(match.rule);
+               }
+               if (!match.isLeaf()) {
+                  newCandidates.add(match);
+               }
+            }
+         }
+         return new Scope(result.ignoreArrayOrder,
+                          result.allowExtraFields,
+                          result.numbers,
+                          result.tolerance,
+                          result.ignored,
+                          newCandidates.toArray(new PathNode[0]));
+      }
+
+      private Scope apply(Rule rule) {
+         return new Scope(rule.ignoreArrayOrder != null ? rule.ignoreArrayOrder : ignoreArrayOrder,
+                          rule.allowExtraFields != null ? rule.allowExtraFields : allowExtraFields,
+                          rule.numbers != null ? rule.numbers : numbers,
+                          rule.numbers != null ? rule.tolerance : tolerance,
+                          ignored || rule.ignored,
+                          candidates);
+      }
+
+   }
+
+}
@@ -0,0 +1,393 @@
+package com.ragnaroh.assertj.json;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+/**
+ * Structural diff of two JSON trees. Both trees are walked once, and the walk stops as soon as a difference beyond
+ * the maximum number has been found. Differences are reported with JSON Pointer paths and short snippets of the nodes
+ * involved, never with whole trees. Which differences count is decided by a {@link JsonComparison}.
+ */
+final class JsonDiff {
+
+   static final int DEFAULT_MAX_DIFFERENCES = 10;
+
+   private static final int MAX_SNIPPET_LENGTH = 60;
+
+   private final int maxDifferences;
+   private final List<Difference> differences = new ArrayList<>();
+   private final StringBuilder path = new StringBuilder();
+   private boolean truncated;
+
+   private JsonDiff(int maxDifferences) {
+      this.maxDifferences = maxDifferences;
+   }
+
+   static JsonDiff between(JsonNode expected, JsonNode actual, int maxDifferences) {
+      return between(expected, actual, JsonComparison.STRICT, maxDifferences);
+   }
+
+   static JsonDiff between(JsonNode expected, JsonNode actual, JsonComparison comparison, int maxDifferences) {
+      if (maxDifferences <= 0) {
+         throw new IllegalArgumentException("Maximum number of differences must be positive");
+      }
+      JsonDiff diff = new JsonDiff(maxDifferences);
+      diff.compare(expected, actual, comparison.rootScope());
+      return diff;
+   }
+
+   List<Difference> differences() {
+      return Collections.unmodifiableList(differences);
+   }
+
+   boolean isEmpty() {
+      return differences.isEmpty() && !truncated;
+   }
+
+   /**
+    * Returns the differences, one per line, followed by a note if further differences were left out.
+    */
+   String describe() {
+      StringBuilder description = new StringBuilder();
+      for (Difference difference : differences) {
+         description.append(System.lineSeparator()).append("  ").append(difference);
+      }
+      if (truncated) {
+         description.append(System.lineSeparator())
+                    .append("  (stopped after ")
+                    .append(maxDifferences)
+                    .append(" differences)");
+      }
+      return description.toString();
+   }
+
+   /**
+    * Returns {@code false} when the walk should stop.
+    */
+   private boolean compare(JsonNode expected, JsonNode actual, JsonComparison.Scope scope) {
+      if (scope.isIgnored()) {
+         return true;
+      }
+      if (actual == null) {
+         return add("expected <%s>, was <null>", snippet(expected));
+      }
+      if (expected.getNodeType() != actual.getNodeType()) {
+         return add("expected <%s>, was <%s>", snippet(expected), snippet(actual));
+      }
+      if (expected.isObject()) {
+         return compareObjects(expected, actual, scope);
+      }
+      if (expected.isArray()) {
+         return scope.ignoresArrayOrder()
+               ? compareArraysIgnoringOrder(expected, actual, scope)
+               : compareArrays(expected, actual, scope);
+      }
+      if (expected.isNumber() ? !scope.numbersEqual(expected, actual) : !expected.equals(actual)) {
+         String expectedSnippet = snippet(expected);
+         String actualSnippet = snippet(actual);
+         if (expectedSnippet.equals(actualSnippet)) {
+            expectedSnippet += " (" + expected.getClass().getSimpleName() + ")";
+            actualSnippet += " (" + actual.getClass().getSimpleName() + ")";
+         }
+         return add("expected <%s>, was <%s>", expectedSnippet, actualSnippet);
+      }
+      return true;
+   }
+
+   private boolean compareObjects(JsonNode expected, JsonNode actual, JsonComparison.Scope scope) {
+      Iterator<Map.Entry<String, JsonNode>> expectedFields = expected.fields();
+      while (expectedFields.hasNext()) {
+         Map.Entry<String, JsonNode> expectedField = expectedFields.next();
+         JsonComparison.Scope fieldScope = scope.field(expectedField.getKey());
+         if (fieldScope.isIgnored()) {
+            continue;
+         }
+         int length = path.length();
+         JsonPointers.appendToken(path, expectedField.getKey());
+         JsonNode actualValue = actual.get(expectedField.getKey());
+         boolean proceed = actualValue == null
+               ? add("missing, expected <%s>", snippet(expectedField.getValue()))
+               : compare(expectedField.getValue(), actualValue, fieldScope);
+         path.setLength(length);
+         if (!proceed) {
+            return false;
+         }
+      }
+      if (scope.allowsExtraFields()) {
+         return true;
+      }
+      Iterator<Map.Entry<String, JsonNode>> actualFields = actual.fields();
+      while (actualFields.hasNext()) {
+         Map.Entry<String, JsonNode> actualField = actualFields.next();
+         if (!expected.has(actualField.getKey()) && !scope.field(actualField.getKey()).isIgnored()) {
+            int length = path.length();
+            JsonPointers.appendToken(path, actualField.getKey());
+            boolean proceed = add("unexpected, was <%s>", snippet(actualField.getValue()));
+            path.setLength(length);
+            if (!proceed) {
+               return false;
+            }
+         }
+      }
+      return true;
+   }
+
+   private boolean compareArrays(JsonNode expected, JsonNode actual, JsonComparison.Scope scope) {
+      if (expected.size() != actual.size()
+            && !add("expected array of size <%d>, size was <%d>", expected.size(), actual.size())) {
+         return false;
+      }
+      int commonSize = Math.min(expected.size(), actual.size());
+      for (int i = 0; i < commonSize; i++) {
+         int length = path.length();
+         JsonPointers.appendIndex(path, i);
+         boolean proceed = compare(expected.get(i), actual.get(i), scope.element(i));
+         path.setLength(length);
+         if (!proceed) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Pairs the elements of both arrays so that as many as possible are equal under the options in effect for them.
+    * Identical elements are paired through their fingerprints first. The pairing is then completed with augmenting
+    * paths, in which an expected element is only ever compared with the actual elements in its bucket: those with
+    * the same fingerprint under the options, see {@link JsonFingerprints#of(JsonNode, JsonComparison.Scope,
+    * JsonNode)}.
+    */
+   private boolean compareArraysIgnoringOrder(JsonNode expected, JsonNode actual, JsonComparison.Scope scope) {
+      ElementMatching matching = new ElementMatching(expected, actual, scope);
+      matching.pairIdentical();
+      for (int i = 0; i < expected.size(); i++) {
+         if (matching.actualPartner[i] < 0) {
+            matching.augment(i);
+         }
+      }
+      for (int i = 0; i < expected.size(); i++) {
+         if (matching.actualPartner[i] < 0
+               && !add("expected element <%s> (position %d) not found", snippet(expected.get(i)), i)) {
+            return false;
+         }
+      }
+      for (int i = 0; i < actual.size(); i++) {
+         if (matching.expectedPartner[i] < 0
+               && !add("unexpected element <%s> at position %d", snippet(actual.get(i)), i)) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Records a difference, or notes that one was left out if the maximum has been reached. Returns {@code false} in
+    * the latter case, when the walk should stop.
+    */
+   private boolean add(String description, Object... arguments) {
+      if (differences.size() >= maxDifferences) {
+         truncated = true;
+         return false;
+      }
+      differences.add(new Difference(path.length() == 0 ? "" : path.toString(), String.format(description, arguments)));
+      return true;
+   }
+
+   private static String snippet(JsonNode node) {
+      if (node.isObject()) {
+         return node.size() == 0 ? "{}" : "{...} (" + node.size() + " fields)";
+      }
+      if (node.isArray()) {
+         return node.size() == 0 ? "[]" : "[...] (" + node.size() + " elements)";
+      }
+      String text = node.toString();
+      if (text.length() > MAX_SNIPPET_LENGTH) {
+         return text.substring(0, MAX_SNIPPET_LENGTH) + "...";
+      }
+      return text;
+   }
+
+   /**
+    * A maximum bipartite matching between the elements of two arrays compared regardless of order.
+    */
+   private static final class ElementMatching {
+
+      private static final List<Integer> NO_CANDIDATES = Collections.emptyList();
+
+      private final JsonNode expected;
+      private final JsonNode actual;
+      private final JsonComparison.Scope scope;
+      private final JsonComparison.Scope elementScope;
+      private final int[] actualPartner;
+      private final int[] expectedPartner;
+      private final int[] visited;
+      private final int[] path;
+      private final int[] via;
+      private final int[] next;
+      private final List<List<Integer>> candidates;
+      private final Map<JsonNode, Map<Long, List<Integer>>> bucketsByTemplate = new HashMap<>();
+      private final Map<Long, Boolean> equivalence = new HashMap<>();
+      private int attempt;
+
+      ElementMatching(JsonNode expected, JsonNode actual, JsonComparison.Scope scope) {
+         this.expected = expected;
+         this.actual = actual;
+         this.scope = scope;
+         this.elementScope = scope.hasIndexRules() ? null : scope.element(0);
+         this.actualPartner = new int[expected.size()];
+         this.expectedPartner = new int[actual.size()];
+         this.visited = new int[actual.size()];
+         this.path = new int[expected.size()];
+         this.via = new int[expected.size()];
+         this.next = new int[expected.size()];
+         this.candidates = new ArrayList<>(Collections.nCopies(expected.size(), (List<Integer>) null));
+         Arrays.fill(actualPartner, -1);
+         Arrays.fill(expectedPartner, -1);
+      }
+
+      void pairIdentical() {
+         Map<JsonFingerprints.Key, Deque<Integer>> positions = new HashMap<>((int) (actual.size() / 0.75f) + 1);
+         for (int i = 0; i < actual.size(); i++) {
+            positions.computeIfAbsent(JsonFingerprints.key(actual.get(i)), key -> new ArrayDeque<>()).add(i);
+         }
+         for (int i = 0; i < expected.size(); i++) {
+            Deque<Integer> identical = positions.get(JsonFingerprints.key(expected.get(i)));
+            if (identical != null && !identical.isEmpty()) {
+               pair(i, identical.poll());
+            }
+         }
+      }
+
+      /**
+       * Searches an augmenting path from the given unpaired expected element, and pairs along it if one is found.
+       * Every actual element is visited at most once per search.
+       */
+      boolean augment(int root) {
+         attempt++;
+         int depth = 0;
+         path[0] = root;
+         next[0] = 0;
+         while (depth >= 0) {
+            int expectedIndex = path[depth];
+            List<Integer> bucket = candidates(expectedIndex);
+            boolean descended = false;
+            while (next[depth] < bucket.size()) {
+               int actualIndex = bucket.get(next[depth]++);
+               if (visited[actualIndex] == attempt) {
+                  continue;
+               }
+               visited[actualIndex] = attempt;
+               if (!equivalent(expectedIndex, actualIndex)) {
+                  continue;
+               }
+               via[depth] = actualIndex;
+               if (expectedPartner[actualIndex] < 0) {
+                  for (int level = depth; level >= 0; level--) {
+                     pair(path[level], via[level]);
+                  }
+                  return true;
+               }
+               depth++;
+               path[depth] = expectedPartner[actualIndex];
+               next[depth] = 0;
+               descended = true;
+               break;
+            }
+            if (!descended) {
+               depth--;
+            }
+         }
+         return false;
+      }
+
+      private void pair(int expectedIndex, int actualIndex) {
+         actualPartner[expectedIndex] = actualIndex;
+         expectedPartner[actualIndex] = expectedIndex;
+      }
+
+      /**
+       * Returns the actual elements that may equal the given expected element: those with the same fingerprint
+       * under the options, or all elements if the options differ by position.
+       */
+      private List<Integer> candidates(int expectedIndex) {
+         List<Integer> result = candidates.get(expectedIndex);
+         if (result == null) {
+            if (elementScope == null) {
+               result = new ArrayList<>(actual.size());
+               for (int i = 0; i < actual.size(); i++) {
+                  result.add(i);
+               }
+            } else {
+               JsonNode element = expected.get(expectedIndex);
+               JsonNode template = JsonFingerprints.template(element, elementScope);
+               result = buckets(template).getOrDefault(JsonFingerprints.of(element, elementScope, template),
+                                                       NO_CANDIDATES);
+            }
+            candidates.set(expectedIndex, result);
+         }
+         return result;
+      }
+
+      private Map<Long, List<Integer>> buckets(JsonNode template) {
+         return bucketsByTemplate.computeIfAbsent(template == null ? NullNode.instance : template, key -> {
+            Map<Long, List<Integer>> buckets = new HashMap<>();
+            for (int i = 0; i < actual.size(); i++) {
+               long fingerprint = JsonFingerprints.of(actual.get(i), elementScope, template);
+               buckets.computeIfAbsent(fingerprint, hash -> new ArrayList<>()).add(i);
+            }
+            return buckets;
+         });
+      }
+
+      private boolean equivalent(int expectedIndex, int actualIndex) {
+         if (actualPartner[expectedIndex] == actualIndex) {
+            return true;
+         }
+         return equivalence.computeIfAbsent((long) expectedIndex * actual.size() + actualIndex, pair -> {
+            JsonDiff probe = new JsonDiff(0);
+            probe.compare(expected.get(expectedIndex), actual.get(actualIndex), scope.element(actualIndex));
+            return probe.isEmpty();
+         });
+      }
+
+   }
+
+   static final class Difference {
+
+      private final String path;
+      private final String description;
+
+      private Difference(String path, String description) {
+         this.path = path;
+         this.description = description;
+      }
+
+      /**
+       * Returns the JSON Pointer of the differing node; the empty string denotes the root.
+       */
+      String path() {
+         return path;
+      }
+
+      String description() {
+         return description;
+      }
+
+      @Override
+      public String toString() {
+         return JsonPointers.display(path) + ": " + description;
+      }
+
+   }
+
+}
@@ -0,0 +1,66 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * An expected JSON document that is parsed once and can be compared against any number of actual documents, see
+ * {@link AbstractJsonAssert#isEqualTo(JsonExpectation)}. Instances are immutable and thread-safe.
+ */
+public final class JsonExpectation {
+
+   private static final LruCache<String, JsonExpectation> CACHE = new LruCache<>(512, 16L * 1024 * 1024, String::length);
+
+   private final String source;
+   private final JsonNode node;
+
+   private JsonExpectation(String source, JsonNode node) {
+      this.source = source;
+      this.node = node;
+   }
+
+   /**
+    * Parses the given JSON document. Identical documents compiled repeatedly are parsed only once.
+    */
+   public static JsonExpectation compile(String json) {
+      requireNonNull(json);
+      return CACHE.get(json, JsonExpectation::parse);
+   }
+
+   private static JsonExpectation parse(String json) {
+      try {
+         JsonNode node = ObjectReaders.jsonNodeReader().readValue(json);
+         return new JsonExpectation(json, ReadOnlyJsonNodes.freeze(node));
+      } catch (JsonProcessingException e) {
+         throw new IllegalArgumentException("Could not parse expected value as JSON node");
+      }
+   }
+
+   JsonNode node() {
+      return node;
+   }
+
+   /**
+    * Returns the elements of the expected array.
+    *
+    * @throws IllegalArgumentException if the expected value is not an array
+    */
+   JsonNode[] elements() {
+      if (!node.isArray()) {
+         throw new IllegalArgumentException("Expected value is not a JSON array: " + source);
+      }
+      JsonNode[] elements = new JsonNode[node.size()];
+      for (int i = 0; i < elements.length; i++) {
+         elements[i] = node.get(i);
+      }
+      return elements;
+   }
+
+   @Override
+   public String toString() {
+      return source;
+   }
+
+}
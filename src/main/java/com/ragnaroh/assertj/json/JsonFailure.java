@@ -0,0 +1,59 @@
+package com.ragnaroh.assertj.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A failed check, kept as a message template and its arguments. The message is only formatted when asked for, with
+ * JSON node arguments rendered by the given {@link JsonNodeRenderer}. Unlike an {@link AssertionError}, a failure
+ * captures no stack trace.
+ */
+final class JsonFailure {
+
+   private final String template;
+   private final Object[] arguments;
+
+   private JsonFailure(String template, Object[] arguments) {
+      this.template = template;
+      this.arguments = arguments;
+   }
+
+   static JsonFailure of(String template, Object... arguments) {
+      return new JsonFailure(template, arguments);
+   }
+
+   static JsonFailure field(String fieldName, String template, Object... arguments) {
+      return new JsonFailure(template, arguments).inField(fieldName);
+   }
+
+   /**
+    * Returns this failure, attributed to the value of the given field.
+    */
+   JsonFailure inField(String fieldName) {
+      return new JsonFailure("Field \"%s\": " + template, prepend(fieldName, arguments));
+   }
+
+   /**
+    * Returns this failure, attributed to the node at the given JSON Pointer.
+    */
+   JsonFailure at(CharSequence pointer) {
+      return new JsonFailure("Node at <%s>: " + template, prepend(JsonPointers.display(pointer), arguments));
+   }
+
+   String message(JsonNodeRenderer renderer) {
+      Object[] rendered = arguments.clone();
+      for (int i = 0; i < rendered.length; i++) {
+         if (rendered[i] instanceof JsonNode) {
+            rendered[i] = renderer.render((JsonNode) rendered[i]);
+         }
+      }
+      return String.format(template, rendered);
+   }
+
+   private static Object[] prepend(Object first, Object[] rest) {
+      Object[] result = new Object[rest.length + 1];
+      result[0] = first;
+      System.arraycopy(rest, 0, result, 1, rest.length);
+      return result;
+   }
+
+}
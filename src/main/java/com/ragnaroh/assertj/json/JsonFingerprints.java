@@ -0,0 +1,293 @@
+package com.ragnaroh.assertj.json;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 64-bit structural fingerprints of JSON trees. Equal trees (by {@link JsonNode#equals(Object)}) have equal
+ * fingerprints, so trees with different fingerprints are known to differ without walking them. Array elements are
+ * combined in order; object fields are combined regardless of order, as object equality ignores field order.
+ * <p>
+ * Fingerprints of read-only trees ({@link ReadOnlyJsonNodes}) are computed once, when the tree is frozen, and kept in
+ * every container node. Fingerprints of other trees are computed on every request, since those trees may be
+ * modified in between; they cost no lookups.
+ */
+final class JsonFingerprints {
+
+   private static final long OBJECT_SEED = 0x9E3779B97F4A7C15L;
+   private static final long ARRAY_SEED = 0xC2B2AE3D27D4EB4FL;
+   private static final long PRIME = 0x100000001B3L;
+   private static final long UNORDERED_ARRAY_SEED = 0x165667B19E3779F9L;
+   private static final long NUMBER_SEED = 0x27D4EB2F165667C5L;
+   private static final long MISSING_SEED = 0x85EBCA77C2B2AE63L;
+
+   private JsonFingerprints() {}
+
+   static long of(JsonNode node) {
+      if (node instanceof ReadOnlyJsonNodes.Frozen) {
+         return ((ReadOnlyJsonNodes.Frozen) node).fingerprint();
+      }
+      return node.isContainerNode() ? compute(node) : valueFingerprint(node);
+   }
+
+   /**
+    * Returns the fingerprint of the given read-only node, computed when it was frozen, or {@code null} if there is
+    * none.
+    */
+   static Long memoized(JsonNode node) {
+      return node instanceof ReadOnlyJsonNodes.Frozen ? ((ReadOnlyJsonNodes.Frozen) node).fingerprint() : null;
+   }
+
+   /**
+    * Computes the fingerprint of a container node from those of its children.
+    */
+   static long compute(JsonNode container) {
+      return container.isObject() ? objectFingerprint(container) : arrayFingerprint(container);
+   }
+
+   /**
+    * Returns a hash key for the given node, for hash-based comparisons of many nodes. Keys are equal when the nodes
+    * are; the fingerprint is computed once per key.
+    */
+   static Key key(JsonNode node) {
+      return new Key(node, of(node));
+   }
+
+   /**
+    * Returns a fingerprint of the given node that is equal for nodes that {@link JsonDiff} finds equal under the
+    * given options, when both are fingerprinted with the same template, see {@link #template}. Ignored nodes are
+    * left out, numbers are fingerprinted by numeric value or left out as the options require, objects that may have
+    * extra fields are fingerprinted over the template's fields only, and arrays compared regardless of order by
+    * their size only.
+    */
+   static long of(JsonNode node, JsonComparison.Scope scope, JsonNode template) {
+      if (scope.isIgnored()) {
+         return 0;
+      }
+      if (node.isObject()) {
+         return scope.allowsExtraFields()
+               ? projectedObjectFingerprint(node, scope, template)
+               : objectFingerprint(node, scope, template);
+      }
+      if (node.isArray()) {
+         if (scope.ignoresArrayOrder()) {
+            return mix(UNORDERED_ARRAY_SEED ^ node.size());
+         }
+         long hash = ARRAY_SEED;
+         for (int i = 0; i < node.size(); i++) {
+            hash = hash * PRIME + of(node.get(i), scope.element(i), child(template, i));
+         }
+         return mix(hash ^ node.size());
+      }
+      if (node.isNumber()) {
+         switch (scope.numberMode()) {
+            case VALUE:
+               return numericValueFingerprint(node);
+            case TOLERANCE:
+               return NUMBER_SEED;
+            default:
+               return valueFingerprint(node);
+         }
+      }
+      return valueFingerprint(node);
+   }
+
+   /**
+    * Returns the template with which nodes compared with the given expected node are fingerprinted: the names of
+    * the fields of its objects that may be compared with objects having extra fields. Returns {@code null} if no
+    * such object is compared.
+    */
+   static JsonNode template(JsonNode expected, JsonComparison.Scope scope) {
+      if (scope.isIgnored()) {
+         return null;
+      }
+      if (expected.isObject()) {
+         ObjectNode result = JsonNodeFactory.instance.objectNode();
+         Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+         while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonComparison.Scope fieldScope = scope.field(field.getKey());
+            if (!fieldScope.isIgnored()) {
+               JsonNode child = template(field.getValue(), fieldScope);
+               if (child != null || scope.allowsExtraFields()) {
+                  result.set(field.getKey(), child != null ? child : NullNode.instance);
+               }
+            }
+         }
+         return result.size() > 0 || scope.allowsExtraFields() ? result : null;
+      }
+      if (expected.isArray() && !scope.ignoresArrayOrder()) {
+         ArrayNode result = JsonNodeFactory.instance.arrayNode(expected.size());
+         boolean hasTemplates = false;
+         for (int i = 0; i < expected.size(); i++) {
+            JsonNode child = template(expected.get(i), scope.element(i));
+            hasTemplates |= child != null;
+            result.add(child != null ? child : NullNode.instance);
+         }
+         return hasTemplates ? result : null;
+      }
+      return null;
+   }
+
+   private static long objectFingerprint(JsonNode node, JsonComparison.Scope scope, JsonNode template) {
+      long sum = 0;
+      int size = 0;
+      Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+         Map.Entry<String, JsonNode> field = fields.next();
+         JsonComparison.Scope fieldScope = scope.field(field.getKey());
+         if (!fieldScope.isIgnored()) {
+            long value = of(field.getValue(), fieldScope, child(template, field.getKey()));
+            sum += mix(stringFingerprint(field.getKey()) * PRIME + value);
+            size++;
+         }
+      }
+      return mix(sum ^ OBJECT_SEED ^ size);
+   }
+
+   private static long projectedObjectFingerprint(JsonNode node, JsonComparison.Scope scope, JsonNode template) {
+      if (template == null || !template.isObject()) {
+         return mix(OBJECT_SEED);
+      }
+      long sum = 0;
+      Iterator<String> fieldNames = template.fieldNames();
+      while (fieldNames.hasNext()) {
+         String fieldName = fieldNames.next();
+         JsonNode value = node.get(fieldName);
+         long valueFingerprint = value == null
+               ? MISSING_SEED
+               : of(value, scope.field(fieldName), child(template, fieldName));
+         sum += mix(stringFingerprint(fieldName) * PRIME + valueFingerprint);
+      }
+      return mix(sum ^ OBJECT_SEED);
+   }
+
+   private static JsonNode child(JsonNode template, String fieldName) {
+      JsonNode child = template != null ? template.get(fieldName) : null;
+      return child == null || child.isNull() ? null : child;
+   }
+
+   private static JsonNode child(JsonNode template, int index) {
+      JsonNode child = template != null ? template.get(index) : null;
+      return child == null || child.isNull() ? null : child;
+   }
+
+   /**
+    * Fingerprints a number by its {@link BigDecimal} value without trailing zeros, so that numerically equal numbers
+    * of any type have equal fingerprints.
+    */
+   private static long numericValueFingerprint(JsonNode node) {
+      switch (node.numberType()) {
+         case INT:
+         case LONG:
+            return mix(NUMBER_SEED ^ node.longValue());
+         case FLOAT:
+         case DOUBLE:
+            if (!Double.isFinite(node.doubleValue())) {
+               return mix(NUMBER_SEED ^ Double.doubleToLongBits(node.doubleValue()));
+            }
+            break;
+         default:
+            break;
+      }
+      BigDecimal value = AbstractJsonAssert.toBigDecimal(node);
+      BigDecimal canonical = value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+      if (canonical.scale() <= 0
+            && canonical.precision() - canonical.scale() <= 19
+            && canonical.toBigInteger().bitLength() < 64) {
+         return mix(NUMBER_SEED ^ canonical.longValue());
+      }
+      return mix(NUMBER_SEED ^ canonical.hashCode() ^ ((long) canonical.scale() << 32));
+   }
+
+   private static long objectFingerprint(JsonNode node) {
+      long sum = 0;
+      Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+         Map.Entry<String, JsonNode> field = fields.next();
+         sum += mix(stringFingerprint(field.getKey()) * PRIME + of(field.getValue()));
+      }
+      return mix(sum ^ OBJECT_SEED ^ node.size());
+   }
+
+   private static long arrayFingerprint(JsonNode node) {
+      long hash = ARRAY_SEED;
+      for (int i = 0; i < node.size(); i++) {
+         hash = hash * PRIME + of(node.get(i));
+      }
+      return mix(hash ^ node.size());
+   }
+
+   private static long valueFingerprint(JsonNode node) {
+      if (node.isTextual()) {
+         return mix(stringFingerprint(node.textValue()) ^ node.getNodeType().ordinal());
+      }
+      long type = node.isNumber() ? 31L + node.numberType().ordinal() : node.getNodeType().ordinal();
+      return mix((type << 32) ^ (node.hashCode() & 0xFFFFFFFFL));
+   }
+
+   private static long stringFingerprint(String value) {
+      long hash = 0xCBF29CE484222325L;
+      for (int i = 0; i < value.length(); i++) {
+         hash = (hash ^ value.charAt(i)) * PRIME;
+      }
+      return hash;
+   }
+
+   /**
+    * The finalizer of MurmurHash3.
+    */
+   private static long mix(long value) {
+      long result = value;
+      result ^= result >>> 33;
+      result *= 0xFF51AFD7ED558CCDL;
+      result ^= result >>> 33;
+      result *= 0xC4CEB9FE1A85EC53L;
+      result ^= result >>> 33;
+      return result;
+   }
+
+   /**
+    * A node paired with its fingerprint. Keys with equal fingerprints are confirmed by comparing the nodes.
+    */
+   static final class Key {
+
+      private final JsonNode node;
+      private final long fingerprint;
+
+      private Key(JsonNode node, long fingerprint) {
+         this.node = node;
+         this.fingerprint = fingerprint;
+      }
+
+      JsonNode node() {
+         return node;
+      }
+
+      @Override
+      public int hashCode() {
+         return (int) (fingerprint ^ (fingerprint >>> 32));
+      }
+
+      @Override
+      public boolean equals(Object other) {
+         if (this == other) {
+            return true;
+         }
+         if (!(other instanceof Key)) {
+            return false;
+         }
+         Key key = (Key) other;
+         return fingerprint == key.fingerprint && node.equals(key.node);
+      }
+
+   }
+
+}
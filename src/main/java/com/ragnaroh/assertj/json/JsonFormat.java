@@ -0,0 +1,84 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * An encoding of JSON data, parsed by the matching Jackson factory directly into the trees the asserts use. Support
+ * for {@link #CBOR} and {@link #SMILE} requires {@code jackson-dataformat-cbor} or {@code jackson-dataformat-smile}
+ * on the classpath. Other Jackson data formats, such as MessagePack, can be used through {@link #of(String,
+ * JsonFactory)}.
+ */
+public final class JsonFormat {
+
+   public static final JsonFormat JSON = new JsonFormat("JSON", ObjectReaders::jsonNodeReader);
+   public static final JsonFormat CBOR = new JsonFormat("CBOR", () -> CborHolder.READER, "jackson-dataformat-cbor");
+   public static final JsonFormat SMILE = new JsonFormat("Smile", () -> SmileHolder.READER, "jackson-dataformat-smile");
+
+   private final String name;
+   private final Supplier<ObjectReader> reader;
+   private final String dependency;
+
+   private JsonFormat(String name, Supplier<ObjectReader> reader) {
+      this(name, reader, null);
+   }
+
+   private JsonFormat(String name, Supplier<ObjectReader> reader, String dependency) {
+      this.name = name;
+      this.reader = reader;
+      this.dependency = dependency;
+   }
+
+   /**
+    * Returns a format parsed by the given factory. The factory must not be reconfigured afterwards.
+    */
+   public static JsonFormat of(String name, JsonFactory factory) {
+      requireNonNull(name);
+      requireNonNull(factory);
+      ObjectReader reader = readerFor(factory);
+      return new JsonFormat(name, () -> reader);
+   }
+
+   /**
+    * Returns the reader parsing this format into trees.
+    *
+    * @throws IllegalStateException if the format's data format module is not on the classpath
+    */
+   ObjectReader reader() {
+      try {
+         return reader.get();
+      } catch (NoClassDefFoundError e) {
+         throw new IllegalStateException(name + " input requires " + dependency + " on the classpath", e);
+      }
+   }
+
+   private static ObjectReader readerFor(JsonFactory factory) {
+      return new ObjectMapper(factory).readerFor(JsonNode.class);
+   }
+
+   @Override
+   public String toString() {
+      return name;
+   }
+
+   private static final class CborHolder {
+
+      private static final ObjectReader READER = readerFor(new CBORFactory());
+
+   }
+
+   private static final class SmileHolder {
+
+      private static final ObjectReader READER = readerFor(new SmileFactory());
+
+   }
+
+}
@@ -0,0 +1,292 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Assertions on newline-delimited JSON (JSON Lines), read from a stream with a single parser. Records are evaluated
+ * as they are read and are not retained, so files of any size can be checked.
+ * <p>
+ * Every record is evaluated. A failure is reported once all records have been read, with the total number of
+ * failed records and the first failures, each with its line number and byte offset.
+ * <p>
+ * A stream given by the caller is not closed.
+ */
+public class JsonLinesAssert {
+
+   private static final int DEFAULT_MAX_REPORTED_FAILURES = 10;
+   private static final int DEFAULT_BATCH_SIZE = 1024;
+
+   private final RecordSource source;
+   private AssertConfiguration configuration = AssertConfiguration.DEFAULT;
+   private int maxReportedFailures = DEFAULT_MAX_REPORTED_FAILURES;
+   private int parallelism;
+   private int batchSize;
+
+   public JsonLinesAssert(InputStream actual) {
+      requireNonNull(actual);
+      this.source = reader -> {
+         JsonParser parser = reader.createParser(actual);
+         parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+         return parser;
+      };
+   }
+
+   public JsonLinesAssert(Path actual) {
+      requireNonNull(actual);
+      this.source = reader -> {
+         JsonParser parser = reader.createParser(new MappedFileInputStream(actual));
+         parser.enable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+         return parser;
+      };
+   }
+
+   public JsonLinesAssert withObjectMapper(ObjectMapper mapper) {
+      requireNonNull(mapper);
+      configuration = configuration.withObjectMapper(mapper);
+      return this;
+   }
+
+   public JsonLinesAssert withDeserializationFeature(DeserializationFeature feature, boolean state) {
+      requireNonNull(feature);
+      configuration = configuration.withDeserializationFeature(feature, state);
+      return this;
+   }
+
+   public JsonLinesAssert withRenderer(JsonNodeRenderer renderer) {
+      requireNonNull(renderer);
+      configuration = configuration.withRenderer(renderer);
+      return this;
+   }
+
+   /**
+    * Limits how many failed records are described in a failure. All failed records are still counted.
+    */
+   public JsonLinesAssert withMaxReportedFailures(int maxReportedFailures) {
+      if (maxReportedFailures <= 0) {
+         throw new IllegalArgumentException("Maximum number of reported failures must be positive");
+      }
+      this.maxReportedFailures = maxReportedFailures;
+      return this;
+   }
+
+   /**
+    * Evaluates records on all available processors, see {@link #inParallel(int, int)}.
+    */
+   public JsonLinesAssert inParallel() {
+      return inParallel(Runtime.getRuntime().availableProcessors(), DEFAULT_BATCH_SIZE);
+   }
+
+   /**
+    * Reads records on the calling thread and evaluates them in batches of the given size on a pool with the given
+    * parallelism. Only a bounded number of batches is held in memory at a time. The report is the same as for
+    * sequential evaluation.
+    * <p>
+    * Requirements given as a {@link Consumer} are called concurrently and must be thread-safe. Requirements given as
+    * a {@link Supplier} of consumers get one consumer per batch, each used from a single thread.
+    */
+   public JsonLinesAssert inParallel(int parallelism, int batchSize) {
+      if (parallelism <= 0 || batchSize <= 0) {
+         throw new IllegalArgumentException("Parallelism and batch size must be positive");
+      }
+      this.parallelism = parallelism;
+      this.batchSize = batchSize;
+      return this;
+   }
+
+   /**
+    * Reads all records and verifies that each is a JSON object satisfying the given requirements.
+    */
+   public void eachObjectSatisfies(Consumer<ObjectNodeAssert> requirements) {
+      requireNonNull(requirements);
+      eachObjectSatisfies(() -> requirements);
+   }
+
+   public void eachObjectSatisfies(Supplier<? extends Consumer<ObjectNodeAssert>> requirements) {
+      requireNonNull(requirements);
+      Report report = parallelism == 0 ? readSequentially(requirements.get()) : readInParallel(requirements);
+      if (report.failureCount > 0) {
+         throw new AssertionError(report.describe());
+      }
+   }
+
+   private Report readSequentially(Consumer<ObjectNodeAssert> requirements) {
+      Report report = new Report(maxReportedFailures);
+      ObjectReader reader = configuration.reader();
+      try (JsonParser parser = source.open(reader)) {
+         while (parser.nextToken() != null) {
+            JsonLocation location = parser.getTokenLocation();
+            JsonNode record = reader.readTree(parser);
+            report.add(evaluate(new Record(location, record), requirements));
+         }
+      } catch (JsonProcessingException e) {
+         throw new IllegalArgumentException("Could not parse actual value as JSON Lines: " + e.getMessage());
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+      return report;
+   }
+
+   private Report readInParallel(Supplier<? extends Consumer<ObjectNodeAssert>> requirements) {
+      Report report = new Report(maxReportedFailures);
+      ObjectReader reader = configuration.reader();
+      ForkJoinPool pool = new ForkJoinPool(parallelism);
+      Deque<ForkJoinTask<Report>> pending = new ArrayDeque<>();
+      try (JsonParser parser = source.open(reader)) {
+         List<Record> batch = new ArrayList<>(batchSize);
+         while (parser.nextToken() != null) {
+            JsonLocation location = parser.getTokenLocation();
+            batch.add(new Record(location, reader.readTree(parser)));
+            if (batch.size() == batchSize) {
+               pending.add(pool.submit(evaluation(batch, requirements)));
+               batch = new ArrayList<>(batchSize);
+               if (pending.size() > 2 * parallelism) {
+                  report.addAll(pending.remove().join());
+               }
+            }
+         }
+         if (!batch.isEmpty()) {
+            pending.add(pool.submit(evaluation(batch, requirements)));
+         }
+         while (!pending.isEmpty()) {
+            report.addAll(pending.remove().join());
+         }
+      } catch (JsonProcessingException e) {
+         throw new IllegalArgumentException("Could not parse actual value as JSON Lines: " + e.getMessage());
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      } finally {
+         pool.shutdownNow();
+      }
+      return report;
+   }
+
+   private Callable<Report> evaluation(List<Record> batch,
+                                      Supplier<? extends Consumer<ObjectNodeAssert>> requirements) {
+      return () -> {
+         Consumer<ObjectNodeAssert> consumer = requirements.get();
+         Report report = new Report(maxReportedFailures);
+         for (Record record : batch) {
+            report.add(evaluate(record, consumer));
+         }
+         return report;
+      };
+   }
+
+   /**
+    * Returns a description of the failure, or {@code null} if the record satisfies the requirements.
+    */
+   private String evaluate(Record record, Consumer<ObjectNodeAssert> requirements) {
+      if (!record.value.isObject()) {
+         return record.describe("Expected JSON object, was <" + configuration.renderer().render(record.value) + ">");
+      }
+      try {
+         requirements.accept(new ObjectNodeAssert((ObjectNode) record.value).withConfiguration(configuration));
+         return null;
+      } catch (AssertionError e) {
+         return record.describe(e.getMessage());
+      }
+   }
+
+   @FunctionalInterface
+   private interface RecordSource {
+
+      JsonParser open(ObjectReader reader) throws IOException;
+
+   }
+
+   private static final class Record {
+
+      private final long lineNumber;
+      private final long byteOffset;
+      private final JsonNode value;
+
+      private Record(JsonLocation location, JsonNode value) {
+         this.lineNumber = location.getLineNr();
+         this.byteOffset = location.getByteOffset();
+         this.value = value;
+      }
+
+      private String describe(String message) {
+         return "line " + lineNumber + " (byte offset " + byteOffset + "): " + message;
+      }
+
+   }
+
+   /**
+    * Failures of consecutive records, in record order.
+    */
+   private static final class Report {
+
+      private final int maxReportedFailures;
+      private final List<String> failures = new ArrayList<>();
+      private long recordCount;
+      private long failureCount;
+
+      private Report(int maxReportedFailures) {
+         this.maxReportedFailures = maxReportedFailures;
+      }
+
+      private void add(String failure) {
+         recordCount++;
+         if (failure != null) {
+            failureCount++;
+            if (failures.size() < maxReportedFailures) {
+               failures.add(failure);
+            }
+         }
+      }
+
+      /**
+       * Appends the report of the records following those of this report.
+       */
+      private void addAll(Report next) {
+         recordCount += next.recordCount;
+         failureCount += next.failureCount;
+         for (String failure : next.failures) {
+            if (failures.size() < maxReportedFailures) {
+               failures.add(failure);
+            }
+         }
+      }
+
+      private String describe() {
+         StringBuilder description = new StringBuilder("Expected all records to satisfy the requirements, but ");
+         description.append(failureCount).append(" of ").append(recordCount).append(" did not:");
+         for (String failure : failures) {
+            description.append(System.lineSeparator()).append("  ").append(failure);
+         }
+         if (failureCount > failures.size()) {
+            description.append(System.lineSeparator())
+                       .append("  (")
+                       .append(failureCount - failures.size())
+                       .append(" more failures not shown)");
+         }
+         return description.toString();
+      }
+
+   }
+
+}
@@ -0,0 +1,45 @@
+package com.ragnaroh.assertj.json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of {@link JsonMatcher#match}. Failure messages are only formatted when asked for.
+ */
+public final class JsonMatchResult {
+
+   static final JsonMatchResult MATCH = new JsonMatchResult(Collections.emptyList(), JsonNodeRenderer.DEFAULT);
+
+   private final List<JsonFailure> failures;
+   private final JsonNodeRenderer renderer;
+
+   JsonMatchResult(List<JsonFailure> failures, JsonNodeRenderer renderer) {
+      this.failures = failures;
+      this.renderer = renderer;
+   }
+
+   public boolean isMatch() {
+      return failures.isEmpty();
+   }
+
+   /**
+    * Returns a message for every failed expectation, or an empty list if the node matched.
+    */
+   public List<String> failures() {
+      if (failures.isEmpty()) {
+         return Collections.emptyList();
+      }
+      List<String> messages = new ArrayList<>(failures.size());
+      for (JsonFailure failure : failures) {
+         messages.add(failure.message(renderer));
+      }
+      return messages;
+   }
+
+   @Override
+   public String toString() {
+      return isMatch() ? "match" : "mismatch " + failures();
+   }
+
+}
@@ -0,0 +1,130 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Base class of the non-throwing matchers created by {@link JsonMatchers}. A matcher is immutable: every expectation
+ * returns a new matcher, so a matcher can be shared between threads and used as a {@link Predicate}. Matching never
+ * creates an exception, and a matching node costs no allocation.
+ */
+@SuppressWarnings("java:S119")
+public abstract class JsonMatcher<SELF extends JsonMatcher<SELF>> implements Predicate<JsonNode> {
+
+   private final JsonCheck typeCheck;
+   private final JsonCheck[] checks;
+   private final JsonNodeRenderer renderer;
+
+   JsonMatcher(JsonCheck typeCheck, JsonCheck[] checks, JsonNodeRenderer renderer) {
+      this.typeCheck = typeCheck;
+      this.checks = checks;
+      this.renderer = renderer;
+   }
+
+   /**
+    * Returns a matcher rendering JSON nodes in failure messages with the given renderer.
+    */
+   public SELF withRenderer(JsonNodeRenderer renderer) {
+      requireNonNull(renderer);
+      return newInstance(checks, renderer);
+   }
+
+   /**
+    * Returns whether the given node meets all expectations. Evaluation stops at the first failed expectation.
+    */
+   public boolean matches(JsonNode actual) {
+      requireNonNull(actual);
+      return firstFailure(actual) == null;
+   }
+
+   public boolean matches(byte[] json) {
+      requireNonNull(json);
+      return matches(ObjectReaders.readJsonNode(json));
+   }
+
+   public boolean matches(String json) {
+      requireNonNull(json);
+      return matches(ObjectReaders.readJsonNode(json));
+   }
+
+   @Override
+   public boolean test(JsonNode actual) {
+      return matches(actual);
+   }
+
+   /**
+    * Evaluates all expectations on the given node, and returns a result describing every one it fails.
+    */
+   public JsonMatchResult match(JsonNode actual) {
+      requireNonNull(actual);
+      List<JsonFailure> failures = failures(actual);
+      return failures.isEmpty() ? JsonMatchResult.MATCH : new JsonMatchResult(failures, renderer);
+   }
+
+   public JsonMatchResult match(byte[] json) {
+      requireNonNull(json);
+      return match(ObjectReaders.readJsonNode(json));
+   }
+
+   public JsonMatchResult match(String json) {
+      requireNonNull(json);
+      return match(ObjectReaders.readJsonNode(json));
+   }
+
+   /**
+    * Returns this matcher as a check, failing with the first failed expectation.
+    */
+   final JsonCheck asCheck() {
+      return this::firstFailure;
+   }
+
+   final SELF with(JsonCheck check) {
+      JsonCheck[] extended = Arrays.copyOf(checks, checks.length + 1);
+      extended[checks.length] = check;
+      return newInstance(extended, renderer);
+   }
+
+   final JsonCheck[] checks() {
+      return checks;
+   }
+
+   final JsonNodeRenderer renderer() {
+      return renderer;
+   }
+
+   abstract SELF newInstance(JsonCheck[] checks, JsonNodeRenderer renderer);
+
+   private JsonFailure firstFailure(JsonNode actual) {
+      JsonFailure failure = typeCheck == null ? null : typeCheck.check(actual);
+      for (int i = 0; failure == null && i < checks.length; i++) {
+         failure = checks[i].check(actual);
+      }
+      return failure;
+   }
+
+   private List<JsonFailure> failures(JsonNode actual) {
+      JsonFailure typeFailure = typeCheck == null ? null : typeCheck.check(actual);
+      if (typeFailure != null) {
+         return Collections.singletonList(typeFailure);
+      }
+      List<JsonFailure> failures = Collections.emptyList();
+      for (JsonCheck check : checks) {
+         JsonFailure failure = check.check(actual);
+         if (failure != null) {
+            if (failures.isEmpty()) {
+               failures = new ArrayList<>();
+            }
+            failures.add(failure);
+         }
+      }
+      return failures;
+   }
+
+}
@@ -0,0 +1,28 @@
+package com.ragnaroh.assertj.json;
+
+/**
+ * Entry point for non-throwing matchers, offering the checks of the assertions as predicates and result objects.
+ *
+ * <pre>
+ * JsonObjectMatcher isActiveWidget = JsonMatchers.object().contains("type", "widget").contains("active", true);
+ * documents.stream().filter(isActiveWidget)...
+ * JsonMatchResult result = isActiveWidget.match(document);
+ * </pre>
+ */
+public final class JsonMatchers {
+
+   private JsonMatchers() {}
+
+   public static JsonObjectMatcher object() {
+      return JsonObjectMatcher.EMPTY;
+   }
+
+   public static JsonArrayMatcher array() {
+      return JsonArrayMatcher.EMPTY;
+   }
+
+   public static JsonNodeMatcher node() {
+      return JsonNodeMatcher.EMPTY;
+   }
+
+}
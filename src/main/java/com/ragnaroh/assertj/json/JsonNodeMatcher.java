@@ -0,0 +1,89 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+
+/**
+ * Non-throwing counterpart of {@link JsonNodeAssert}, see {@link JsonMatchers#node()}.
+ */
+public final class JsonNodeMatcher extends JsonMatcher<JsonNodeMatcher> {
+
+   static final JsonNodeMatcher EMPTY = new JsonNodeMatcher(new JsonCheck[0], JsonNodeRenderer.DEFAULT);
+
+   private JsonNodeMatcher(JsonCheck[] checks, JsonNodeRenderer renderer) {
+      super(null, checks, renderer);
+   }
+
+   public JsonNodeMatcher isString() {
+      return with(NodeChecks.isString());
+   }
+
+   public JsonNodeMatcher isNumber() {
+      return with(NodeChecks.isNumber());
+   }
+
+   public JsonNodeMatcher isInteger() {
+      return with(NodeChecks.isInteger());
+   }
+
+   public JsonNodeMatcher isBoolean() {
+      return with(NodeChecks.isBoolean());
+   }
+
+   public JsonNodeMatcher isObjectNode() {
+      return with(NodeChecks.isObjectNode());
+   }
+
+   public JsonNodeMatcher isArrayNode() {
+      return with(NodeChecks.isArrayNode());
+   }
+
+   public JsonNodeMatcher isStringEqualTo(String expected) {
+      requireNonNull(expected);
+      return with(NodeChecks.isStringEqualTo(expected));
+   }
+
+   public JsonNodeMatcher isNumberEqualTo(Number expected) {
+      requireNonNull(expected);
+      return with(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
+   }
+
+   public JsonNodeMatcher isNumberEqualTo(int expected) {
+      return with(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
+   }
+
+   public JsonNodeMatcher isNumberEqualTo(double expected) {
+      return with(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
+   }
+
+   public JsonNodeMatcher isNumberEqualTo(String expectedNumberAsString) {
+      requireNonNull(expectedNumberAsString);
+      return isNumberEqualTo(new BigDecimal(expectedNumberAsString));
+   }
+
+   public JsonNodeMatcher isNumberEqualTo(BigDecimal expected) {
+      requireNonNull(expected);
+      return with(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
+   }
+
+   public JsonNodeMatcher isBooleanEqualTo(boolean expected) {
+      return with(NodeChecks.isBooleanEqualTo(expected));
+   }
+
+   public JsonNodeMatcher isEqualTo(String expected) {
+      requireNonNull(expected);
+      return isEqualTo(JsonExpectation.compile(expected));
+   }
+
+   public JsonNodeMatcher isEqualTo(JsonExpectation expected) {
+      requireNonNull(expected);
+      return with(NodeChecks.isEqualTo(expected.node(), JsonDiff.DEFAULT_MAX_DIFFERENCES));
+   }
+
+   @Override
+   JsonNodeMatcher newInstance(JsonCheck[] checks, JsonNodeRenderer renderer) {
+      return new JsonNodeMatcher(checks, renderer);
+   }
+
+}
@@ -0,0 +1,219 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Renders JSON nodes for failure messages as compact JSON, truncated by nesting depth, by the number of elements or
+ * fields per container and by the total number of characters. Every truncation marker names the JSON Pointer at
+ * which it was cut, e.g. {@code [1,2,3,...997 more elements at /numbers]}.
+ * <p>
+ * Instances are immutable; configure one with the {@code with*} methods, starting from {@link #DEFAULT}.
+ */
+public final class JsonNodeRenderer {
+
+   public static final JsonNodeRenderer DEFAULT = new JsonNodeRenderer(10, 100, 4000);
+
+   private final int maxDepth;
+   private final int maxElements;
+   private final int maxLength;
+
+   private JsonNodeRenderer(int maxDepth, int maxElements, int maxLength) {
+      this.maxDepth = maxDepth;
+      this.maxElements = maxElements;
+      this.maxLength = maxLength;
+   }
+
+   /**
+    * Containers nested deeper than the given depth are rendered as a marker only. The root is at depth 0.
+    */
+   public JsonNodeRenderer withMaxDepth(int maxDepth) {
+      if (maxDepth < 0) {
+         throw new IllegalArgumentException("Maximum depth must not be negative");
+      }
+      return new JsonNodeRenderer(maxDepth, maxElements, maxLength);
+   }
+
+   /**
+    * Renders at most the given number of elements of each array and fields of each object.
+    */
+   public JsonNodeRenderer withMaxElements(int maxElements) {
+      if (maxElements <= 0) {
+         throw new IllegalArgumentException("Maximum number of elements must be positive");
+      }
+      return new JsonNodeRenderer(maxDepth, maxElements, maxLength);
+   }
+
+   /**
+    * Stops rendering after the given number of characters, not counting the truncation marker.
+    */
+   public JsonNodeRenderer withMaxLength(int maxLength) {
+      if (maxLength <= 0) {
+         throw new IllegalArgumentException("Maximum length must be positive");
+      }
+      return new JsonNodeRenderer(maxDepth, maxElements, maxLength);
+   }
+
+   public String render(JsonNode node) {
+      requireNonNull(node);
+      Rendering rendering = new Rendering();
+      rendering.write(node, 0);
+      return rendering.out.toString();
+   }
+
+   /**
+    * Returns a message argument that renders the node when, and only when, it is converted to a string.
+    */
+   Object lazily(JsonNode node) {
+      return new LazyRendering(node);
+   }
+
+   private final class Rendering {
+
+      private final StringBuilder out = new StringBuilder();
+      private final StringBuilder path = new StringBuilder();
+
+      /**
+       * Returns {@code false} once the character limit has been reached.
+       */
+      private boolean write(JsonNode node, int depth) {
+         if (node.isObject()) {
+            return writeObject(node, depth);
+         }
+         if (node.isArray()) {
+            return writeArray(node, depth);
+         }
+         if (node.isTextual()) {
+            writeString(node.textValue());
+         } else {
+            out.append(node.toString());
+         }
+         return checkLength();
+      }
+
+      private boolean writeObject(JsonNode node, int depth) {
+         if (node.size() == 0) {
+            out.append("{}");
+            return checkLength();
+         }
+         if (depth >= maxDepth) {
+            out.append("{...").append(node.size()).append(" fields at ").append(JsonPointers.display(path)).append('}');
+            return checkLength();
+         }
+         out.append('{');
+         Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+         for (int count = 0; fields.hasNext(); count++) {
+            if (count == maxElements) {
+               out.append(",...")
+                  .append(node.size() - count)
+                  .append(" more fields at ")
+                  .append(JsonPointers.display(path))
+                  .append('}');
+               return checkLength();
+            }
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (count > 0) {
+               out.append(',');
+            }
+            writeString(field.getKey());
+            out.append(':');
+            int length = path.length();
+            JsonPointers.appendToken(path, field.getKey());
+            boolean proceed = checkLength() && write(field.getValue(), depth + 1);
+            path.setLength(length);
+            if (!proceed) {
+               return false;
+            }
+         }
+         out.append('}');
+         return checkLength();
+      }
+
+      private boolean writeArray(JsonNode node, int depth) {
+         if (node.size() == 0) {
+            out.append("[]");
+            return checkLength();
+         }
+         if (depth >= maxDepth) {
+            out.append("[...").append(node.size()).append(" elements at ").append(JsonPointers.display(path)).append(']');
+            return checkLength();
+         }
+         out.append('[');
+         for (int i = 0; i < node.size(); i++) {
+            if (i == maxElements) {
+               out.append(",...")
+                  .append(node.size() - i)
+                  .append(" more elements at ")
+                  .append(JsonPointers.display(path))
+                  .append(']');
+               return checkLength();
+            }
+            if (i > 0) {
+               out.append(',');
+            }
+            int length = path.length();
+            JsonPointers.appendIndex(path, i);
+            boolean proceed = write(node.get(i), depth + 1);
+            path.setLength(length);
+            if (!proceed) {
+               return false;
+            }
+         }
+         out.append(']');
+         return checkLength();
+      }
+
+      /**
+       * Writes a quoted string, but never more of it than is needed to exceed the character limit, which may already
+       * be exceeded by the separator and quote written before it.
+       */
+      private void writeString(String value) {
+         out.append('"');
+         int needed = Math.max(0, maxLength - out.length() + 1);
+         if (value.length() >= needed) {
+            out.append(JsonStringEncoder.getInstance().quoteAsString(value.substring(0, needed)));
+         } else {
+            out.append(JsonStringEncoder.getInstance().quoteAsString(value)).append('"');
+         }
+      }
+
+      private boolean checkLength() {
+         if (out.length() <= maxLength) {
+            return true;
+         }
+         out.setLength(maxLength);
+         out.append("...(truncated after ")
+            .append(maxLength)
+            .append(" characters at ")
+            .append(JsonPointers.display(path))
+            .append(')');
+         return false;
+      }
+
+   }
+
+   private final class LazyRendering {
+
+      private final JsonNode node;
+      private String rendered;
+
+      private LazyRendering(JsonNode node) {
+         this.node = node;
+      }
+
+      @Override
+      public String toString() {
+         if (rendered == null) {
+            rendered = render(node);
+         }
+         return rendered;
+      }
+
+   }
+
+}
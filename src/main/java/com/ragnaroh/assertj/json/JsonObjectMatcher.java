@@ -0,0 +1,170 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Non-throwing counterpart of {@link ObjectNodeAssert}, see {@link JsonMatchers#object()}.
+ */
+public final class JsonObjectMatcher extends JsonMatcher<JsonObjectMatcher> {
+
+   static final JsonObjectMatcher EMPTY = new JsonObjectMatcher(new JsonCheck[0],
+                                                                JsonNodeRenderer.DEFAULT,
+                                                                Collections.emptySet());
+
+   private final Set<String> assertedFields;
+
+   private JsonObjectMatcher(JsonCheck[] checks, JsonNodeRenderer renderer, Set<String> assertedFields) {
+      super(NodeChecks.isObjectNode(), checks, renderer);
+      this.assertedFields = assertedFields;
+   }
+
+   public JsonObjectMatcher contains(String fieldName) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.contains(fieldName));
+   }
+
+   public JsonObjectMatcher containsString(String fieldName) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.containsString(fieldName));
+   }
+
+   public JsonObjectMatcher containsNumber(String fieldName) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.containsNumber(fieldName));
+   }
+
+   public JsonObjectMatcher containsInteger(String fieldName) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.containsInteger(fieldName));
+   }
+
+   public JsonObjectMatcher containsBoolean(String fieldName) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.containsBoolean(fieldName));
+   }
+
+   public JsonObjectMatcher containsNull(String fieldName) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.containsNull(fieldName));
+   }
+
+   public JsonObjectMatcher containsObject(String fieldName) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.containsObject(fieldName));
+   }
+
+   public JsonObjectMatcher containsArray(String fieldName) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.containsArray(fieldName));
+   }
+
+   public JsonObjectMatcher contains(String fieldName, String expectedValue) {
+      requireNonNull(fieldName);
+      requireNonNull(expectedValue);
+      return field(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+   }
+
+   public JsonObjectMatcher contains(String fieldName, int expectedValue) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+   }
+
+   public JsonObjectMatcher contains(String fieldName, long expectedValue) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+   }
+
+   public JsonObjectMatcher contains(String fieldName, double expectedValue) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+   }
+
+   public JsonObjectMatcher contains(String fieldName, BigDecimal expectedValue) {
+      requireNonNull(fieldName);
+      requireNonNull(expectedValue);
+      return field(fieldName, ObjectChecks.containsNumber(fieldName, ExpectedNumber.of(expectedValue), expectedValue));
+   }
+
+   public JsonObjectMatcher containsNumber(String fieldName, String expectedValueAsString) {
+      requireNonNull(fieldName);
+      requireNonNull(expectedValueAsString);
+      return field(fieldName,
+                   ObjectChecks.containsNumber(fieldName,
+                                               ExpectedNumber.of(new BigDecimal(expectedValueAsString)),
+                                               expectedValueAsString));
+   }
+
+   public JsonObjectMatcher contains(String fieldName, boolean expectedValue) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+   }
+
+   /**
+    * Expects the value of the given field to be matched by the given matcher.
+    */
+   public JsonObjectMatcher contains(String fieldName, JsonMatcher<?> valueMatcher) {
+      requireNonNull(fieldName);
+      requireNonNull(valueMatcher);
+      return field(fieldName, ObjectChecks.containsNodeMatching(fieldName, valueMatcher.asCheck()));
+   }
+
+   public JsonObjectMatcher containsStringMatching(String fieldName, String valueRegex) {
+      requireNonNull(valueRegex);
+      return containsStringMatching(fieldName, Patterns.compile(valueRegex));
+   }
+
+   public JsonObjectMatcher containsStringMatching(String fieldName, Pattern valuePattern) {
+      requireNonNull(fieldName);
+      requireNonNull(valuePattern);
+      return field(fieldName, ObjectChecks.containsStringMatching(fieldName, valuePattern));
+   }
+
+   public JsonObjectMatcher containsNumberMatching(String fieldName, String valueRegex) {
+      requireNonNull(valueRegex);
+      return containsNumberMatching(fieldName, Patterns.compile(valueRegex));
+   }
+
+   public JsonObjectMatcher containsNumberMatching(String fieldName, Pattern valuePattern) {
+      requireNonNull(fieldName);
+      requireNonNull(valuePattern);
+      return field(fieldName, ObjectChecks.containsNumberMatching(fieldName, valuePattern));
+   }
+
+   public JsonObjectMatcher containsEmptyObject(String fieldName) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.containsEmptyObject(fieldName));
+   }
+
+   public JsonObjectMatcher containsEmptyArray(String fieldName) {
+      requireNonNull(fieldName);
+      return field(fieldName, ObjectChecks.containsEmptyArray(fieldName));
+   }
+
+   /**
+    * Expects the object to have no fields other than those named by the preceding expectations.
+    */
+   public JsonObjectMatcher containsNoUnassertedFields() {
+      return with(ObjectChecks.containsNoFieldsOtherThan(assertedFields));
+   }
+
+   @Override
+   JsonObjectMatcher newInstance(JsonCheck[] checks, JsonNodeRenderer renderer) {
+      return new JsonObjectMatcher(checks, renderer, assertedFields);
+   }
+
+   private JsonObjectMatcher field(String fieldName, JsonCheck check) {
+      Set<String> fields = assertedFields;
+      if (!fields.contains(fieldName)) {
+         fields = new HashSet<>(assertedFields);
+         fields.add(fieldName);
+      }
+      return new JsonObjectMatcher(checks(), renderer(), fields).with(check);
+   }
+
+}
@@ -0,0 +1,35 @@
+package com.ragnaroh.assertj.json;
+
+/**
+ * JSON Pointer (RFC 6901) helpers shared by failure reporting.
+ */
+final class JsonPointers {
+
+   private JsonPointers() {}
+
+   static void appendToken(StringBuilder pointer, String token) {
+      pointer.append('/');
+      for (int i = 0; i < token.length(); i++) {
+         char c = token.charAt(i);
+         if (c == '~') {
+            pointer.append("~0");
+         } else if (c == '/') {
+            pointer.append("~1");
+         } else {
+            pointer.append(c);
+         }
+      }
+   }
+
+   static void appendIndex(StringBuilder pointer, int index) {
+      pointer.append('/').append(index);
+   }
+
+   /**
+    * Returns the pointer as shown in messages, where the root is spelled out instead of being the empty string.
+    */
+   static String display(CharSequence pointer) {
+      return pointer.length() == 0 ? "(root)" : pointer.toString();
+   }
+
+}
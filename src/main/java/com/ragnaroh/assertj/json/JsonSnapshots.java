@@ -0,0 +1,225 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Settings and storage of the snapshots used by {@link AbstractJsonAssert#matchesSnapshot(String)}.
+ * <p>
+ * A snapshot is stored as {@code <directory>/<name>.json} in canonical form: compact JSON with object fields sorted
+ * by name, preceded by a header line holding the SHA-256 digest of the canonical JSON. Checking a snapshot reads
+ * only the header; the snapshot itself is parsed only when the digests differ, to report the differences.
+ * <p>
+ * The directory defaults to the system property {@value #DIRECTORY_PROPERTY}, or {@code src/test/resources/snapshots}.
+ * Update mode, in which snapshots are written instead of checked, defaults to the system property
+ * {@value #UPDATE_PROPERTY}. Outside update mode, a missing snapshot fails the assertion, so that a mistyped or
+ * uncommitted snapshot name cannot pass unnoticed.
+ */
+public final class JsonSnapshots {
+
+   public static final String DIRECTORY_PROPERTY = "assertj.json.snapshots.directory";
+   public static final String UPDATE_PROPERTY = "assertj.json.snapshots.update";
+
+   private static final String HEADER_PREFIX = "#sha256:";
+   private static final int HEADER_LENGTH = HEADER_PREFIX.length() + 64 + 1;
+   private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_\\-]+(?:[./][A-Za-z0-9_\\-]+)*");
+   private static final ObjectMapper MAPPER = new ObjectMapper();
+
+   private static volatile Path directory = Paths.get(System.getProperty(DIRECTORY_PROPERTY,
+                                                                          "src/test/resources/snapshots"));
+   private static volatile boolean updating = Boolean.getBoolean(UPDATE_PROPERTY);
+
+   private JsonSnapshots() {}
+
+   public static void setDirectory(Path directory) {
+      requireNonNull(directory);
+      JsonSnapshots.directory = directory;
+   }
+
+   public static Path directory() {
+      return directory;
+   }
+
+   public static void setUpdating(boolean updating) {
+      JsonSnapshots.updating = updating;
+   }
+
+   public static boolean isUpdating() {
+      return updating;
+   }
+
+   /**
+    * Returns the file of the snapshot with the given name. Names consist of letters, digits, {@code _} and
+    * {@code -}, separated by {@code .} or {@code /}; slashes denote subdirectories.
+    */
+   static Path file(String name) {
+      if (!NAME.matcher(name).matches()) {
+         throw new IllegalArgumentException("Invalid snapshot name <" + name + ">");
+      }
+      return directory.resolve(name + ".json");
+   }
+
+   /**
+    * Returns the SHA-256 digest of the canonical form of the given tree, in hexadecimal. The canonical form is
+    * streamed into the digest, never buffered.
+    */
+   static String digest(JsonNode node) throws IOException {
+      MessageDigest digest = sha256();
+      try (OutputStream out = new DigestOutputStream(NullOutputStream.INSTANCE, digest)) {
+         writeCanonical(node, out);
+      }
+      return hex(digest.digest());
+   }
+
+   /**
+    * Returns the digest in the header of the given snapshot, or {@code null} if the snapshot does not exist or has no
+    * valid header.
+    */
+   static String storedDigest(Path file) throws IOException {
+      if (!Files.isRegularFile(file)) {
+         return null;
+      }
+      byte[] header = new byte[HEADER_LENGTH];
+      int length = 0;
+      try (InputStream in = Files.newInputStream(file)) {
+         int read;
+         while (length < header.length && (read = in.read(header, length, header.length - length)) > 0) {
+            length += read;
+         }
+      }
+      String text = new String(header, 0, length, StandardCharsets.US_ASCII);
+      if (length < HEADER_LENGTH || !text.startsWith(HEADER_PREFIX) || text.charAt(HEADER_LENGTH - 1) != '\n') {
+         return null;
+      }
+      return text.substring(HEADER_PREFIX.length(), HEADER_LENGTH - 1);
+   }
+
+   /**
+    * Parses the given snapshot, skipping its header if it has one, with the given reader.
+    */
+   static JsonNode read(Path file, ObjectReader reader) throws IOException {
+      int headerLength = storedDigest(file) != null ? HEADER_LENGTH : 0;
+      try (InputStream in = new MappedFileInputStream(file)) {
+         long skipped = 0;
+         while (skipped < headerLength) {
+            long count = in.skip(headerLength - skipped);
+            if (count <= 0) {
+               throw new IOException("Truncated snapshot " + file);
+            }
+            skipped += count;
+         }
+         return reader.readValue(in);
+      }
+   }
+
+   /**
+    * Writes the given tree as the given snapshot. The snapshot is written to a temporary file first, which then
+    * replaces the snapshot atomically where the file system supports it, so readers never see a partial snapshot.
+    */
+   static void write(Path file, JsonNode node, String digest) throws IOException {
+      Path parent = file.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      Path temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+      try {
+         try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+            out.write((HEADER_PREFIX + digest + "\n").getBytes(StandardCharsets.US_ASCII));
+            writeCanonical(node, out);
+         }
+         try {
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+         } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+         }
+      } finally {
+         Files.deleteIfExists(temporary);
+      }
+   }
+
+   private static void writeCanonical(JsonNode node, OutputStream out) throws IOException {
+      try (JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+         generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+         writeCanonical(node, generator);
+      }
+   }
+
+   private static void writeCanonical(JsonNode node, JsonGenerator generator) throws IOException {
+      if (node.isObject()) {
+         List<String> fieldNames = new ArrayList<>(node.size());
+         Iterator<String> names = node.fieldNames();
+         while (names.hasNext()) {
+            fieldNames.add(names.next());
+         }
+         Collections.sort(fieldNames);
+         generator.writeStartObject();
+         for (String fieldName : fieldNames) {
+            generator.writeFieldName(fieldName);
+            writeCanonical(node.get(fieldName), generator);
+         }
+         generator.writeEndObject();
+      } else if (node.isArray()) {
+         generator.writeStartArray();
+         for (JsonNode element : node) {
+            writeCanonical(element, generator);
+         }
+         generator.writeEndArray();
+      } else {
+         generator.writeTree(node);
+      }
+   }
+
+   private static MessageDigest sha256() {
+      try {
+         return MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+         throw new IllegalStateException(e);
+      }
+   }
+
+   private static String hex(byte[] bytes) {
+      StringBuilder result = new StringBuilder(bytes.length * 2);
+      for (byte b : bytes) {
+         result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return result.toString();
+   }
+
+   private static final class NullOutputStream extends OutputStream {
+
+      static final NullOutputStream INSTANCE = new NullOutputStream();
+
+      @Override
+      public void write(int b) {
+         // discarded
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) {
+         // discarded
+      }
+
+   }
+
+}
@@ -0,0 +1,130 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Collects the failures of JSON assertions instead of stopping at the first one, and reports them together in
+ * {@link #assertAll()}.
+ * <p>
+ * Unlike AssertJ's {@code SoftAssertions}, no proxies are generated and no {@link AssertionError} is created per
+ * failure: a failure is recorded as a message template with its arguments, and only formatted when reported.
+ *
+ * <pre>
+ * JsonSoftAssertions.assertSoftly(softly -&gt; {
+ *    softly.assertThatJsonObject(json).contains("id", 1).contains("name", "widget");
+ *    softly.assertThatJson(json).at("/tags").asArrayNode().hasSize(2);
+ * });
+ * </pre>
+ * Instances are not thread-safe.
+ */
+public class JsonSoftAssertions {
+
+   private final List<JsonFailure> failures = new ArrayList<>();
+   private JsonNodeRenderer renderer = JsonNodeRenderer.DEFAULT;
+   private int maxDifferences = JsonDiff.DEFAULT_MAX_DIFFERENCES;
+
+   /**
+    * Runs the given assertions softly and reports all their failures at the end.
+    */
+   public static void assertSoftly(Consumer<JsonSoftAssertions> softAssertions) {
+      requireNonNull(softAssertions);
+      JsonSoftAssertions softly = new JsonSoftAssertions();
+      softAssertions.accept(softly);
+      softly.assertAll();
+   }
+
+   public JsonSoftAssertions withRenderer(JsonNodeRenderer renderer) {
+      requireNonNull(renderer);
+      this.renderer = renderer;
+      return this;
+   }
+
+   /**
+    * Limits how many differences an {@code isEqualTo} failure reports.
+    */
+   public JsonSoftAssertions withMaxReportedDifferences(int maxDifferences) {
+      if (maxDifferences <= 0) {
+         throw new IllegalArgumentException("Maximum number of differences must be positive");
+      }
+      this.maxDifferences = maxDifferences;
+      return this;
+   }
+
+   public SoftJsonNodeAssert assertThatJson(String actual) {
+      requireNonNull(actual);
+      return assertThat(ObjectReaders.readJsonNode(actual));
+   }
+
+   public SoftObjectNodeAssert assertThatJsonObject(String actual) {
+      requireNonNull(actual);
+      return assertThat(ObjectReaders.readObjectNode(actual));
+   }
+
+   public SoftArrayNodeAssert assertThatJsonArray(String actual) {
+      requireNonNull(actual);
+      return assertThat(ObjectReaders.readArrayNode(actual));
+   }
+
+   public SoftJsonNodeAssert assertThat(JsonNode actual) {
+      return new SoftJsonNodeAssert(this, notNull(actual), "");
+   }
+
+   public SoftObjectNodeAssert assertThat(ObjectNode actual) {
+      return new SoftObjectNodeAssert(this, notNull(actual), "");
+   }
+
+   public SoftArrayNodeAssert assertThat(ArrayNode actual) {
+      return new SoftArrayNodeAssert(this, notNull(actual), "");
+   }
+
+   /**
+    * Returns the messages of all failures recorded so far.
+    */
+   public List<String> failures() {
+      List<String> messages = new ArrayList<>(failures.size());
+      for (JsonFailure failure : failures) {
+         messages.add(failure.message(renderer));
+      }
+      return messages;
+   }
+
+   /**
+    * Throws a single {@link AssertionError} describing all recorded failures, if there are any.
+    */
+   public void assertAll() {
+      if (failures.isEmpty()) {
+         return;
+      }
+      StringBuilder message = new StringBuilder().append("Expected all JSON assertions to pass, but ")
+                                                 .append(failures.size())
+                                                 .append(" failed:");
+      for (String failure : failures()) {
+         message.append(System.lineSeparator()).append("  ").append(failure);
+      }
+      throw new AssertionError(message.toString());
+   }
+
+   int maxDifferences() {
+      return maxDifferences;
+   }
+
+   void record(JsonFailure failure) {
+      failures.add(failure);
+   }
+
+   private <T> T notNull(T actual) {
+      if (actual == null) {
+         record(JsonFailure.of("Expecting actual not to be null"));
+      }
+      return actual;
+   }
+
+}
@@ -0,0 +1,293 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A reusable set of expectations on a JSON object, using the vocabulary of {@link ObjectNodeAssert}. A spec is built
+ * once and is then immutable and thread-safe, so it can validate any number of documents from any number of
+ * threads. A document that satisfies the spec costs no allocation beyond its parsing.
+ *
+ * <pre>
+ * JsonSpec spec = JsonSpec.builder()
+ *                         .contains("id", 1)
+ *                         .containsStringMatching("name", "[a-z]+")
+ *                         .containsNoUnassertedFields()
+ *                         .build();
+ * spec.assertValid(responseBody);
+ * </pre>
+ */
+public final class JsonSpec {
+
+   private final JsonCheck[] checks;
+   private final JsonCheck noUnassertedFields;
+   private final JsonNodeRenderer renderer;
+
+   private JsonSpec(Builder builder) {
+      this.checks = builder.checks.toArray(new JsonCheck[0]);
+      this.noUnassertedFields = builder.noUnassertedFields
+            ? ObjectChecks.containsNoFieldsOtherThan(new HashSet<>(builder.assertedFields))
+            : null;
+      this.renderer = builder.renderer;
+   }
+
+   public static Builder builder() {
+      return new Builder();
+   }
+
+   /**
+    * Returns whether the given node satisfies this spec. Evaluation stops at the first failed expectation.
+    */
+   public boolean matches(JsonNode actual) {
+      requireNonNull(actual);
+      if (!actual.isObject()) {
+         return false;
+      }
+      for (JsonCheck check : checks) {
+         if (check.check(actual) != null) {
+            return false;
+         }
+      }
+      return noUnassertedFields == null || noUnassertedFields.check(actual) == null;
+   }
+
+   public boolean matches(byte[] json) {
+      requireNonNull(json);
+      return matches(ObjectReaders.readJsonNode(json));
+   }
+
+   public boolean matches(String json) {
+      requireNonNull(json);
+      return matches(ObjectReaders.readJsonNode(json));
+   }
+
+   /**
+    * Returns a message for every expectation the given node fails, or an empty list if it satisfies this spec.
+    */
+   public List<String> validate(JsonNode actual) {
+      requireNonNull(actual);
+      List<JsonFailure> failures = failures(actual);
+      if (failures.isEmpty()) {
+         return Collections.emptyList();
+      }
+      List<String> messages = new ArrayList<>(failures.size());
+      for (JsonFailure failure : failures) {
+         messages.add(failure.message(renderer));
+      }
+      return messages;
+   }
+
+   public List<String> validate(byte[] json) {
+      requireNonNull(json);
+      return validate(ObjectReaders.readJsonNode(json));
+   }
+
+   public List<String> validate(String json) {
+      requireNonNull(json);
+      return validate(ObjectReaders.readJsonNode(json));
+   }
+
+   /**
+    * Verifies that the given node satisfies this spec, reporting every failed expectation at once.
+    */
+   public void assertValid(JsonNode actual) {
+      List<String> messages = validate(actual);
+      if (!messages.isEmpty()) {
+         StringBuilder message = new StringBuilder("Expected JSON to satisfy spec, found failures:");
+         for (String failure : messages) {
+            message.append(System.lineSeparator()).append("  ").append(failure);
+         }
+         throw new AssertionError(message.toString());
+      }
+   }
+
+   public void assertValid(byte[] json) {
+      requireNonNull(json);
+      assertValid(ObjectReaders.readJsonNode(json));
+   }
+
+   public void assertValid(String json) {
+      requireNonNull(json);
+      assertValid(ObjectReaders.readJsonNode(json));
+   }
+
+   private List<JsonFailure> failures(JsonNode actual) {
+      if (!actual.isObject()) {
+         return Collections.singletonList(JsonFailure.of("Expected JSON object, was: <%s>", actual));
+      }
+      List<JsonFailure> failures = Collections.emptyList();
+      for (JsonCheck check : checks) {
+         JsonFailure failure = check.check(actual);
+         if (failure != null) {
+            failures = add(failures, failure);
+         }
+      }
+      if (noUnassertedFields != null) {
+         JsonFailure failure = noUnassertedFields.check(actual);
+         if (failure != null) {
+            failures = add(failures, failure);
+         }
+      }
+      return failures;
+   }
+
+   private static List<JsonFailure> add(List<JsonFailure> failures, JsonFailure failure) {
+      List<JsonFailure> result = failures.isEmpty() ? new ArrayList<>() : failures;
+      result.add(failure);
+      return result;
+   }
+
+   /**
+    * Collects expectations for a {@link JsonSpec}. Builders are not thread-safe; the specs they build are.
+    */
+   public static final class Builder {
+
+      private final List<JsonCheck> checks = new ArrayList<>();
+      private final Set<String> assertedFields = new LinkedHashSet<>();
+      private boolean noUnassertedFields;
+      private JsonNodeRenderer renderer = JsonNodeRenderer.DEFAULT;
+
+      private Builder() {}
+
+      public Builder withRenderer(JsonNodeRenderer renderer) {
+         requireNonNull(renderer);
+         this.renderer = renderer;
+         return this;
+      }
+
+      public Builder contains(String fieldName) {
+         return add(fieldName, ObjectChecks.contains(fieldName));
+      }
+
+      public Builder containsString(String fieldName) {
+         return add(fieldName, ObjectChecks.containsString(fieldName));
+      }
+
+      public Builder containsNumber(String fieldName) {
+         return add(fieldName, ObjectChecks.containsNumber(fieldName));
+      }
+
+      public Builder containsInteger(String fieldName) {
+         return add(fieldName, ObjectChecks.containsInteger(fieldName));
+      }
+
+      public Builder containsBoolean(String fieldName) {
+         return add(fieldName, ObjectChecks.containsBoolean(fieldName));
+      }
+
+      public Builder containsNull(String fieldName) {
+         return add(fieldName, ObjectChecks.containsNull(fieldName));
+      }
+
+      public Builder containsObject(String fieldName) {
+         return add(fieldName, ObjectChecks.containsObject(fieldName));
+      }
+
+      public Builder containsArray(String fieldName) {
+         return add(fieldName, ObjectChecks.containsArray(fieldName));
+      }
+
+      public Builder contains(String fieldName, String expectedValue) {
+         requireNonNull(expectedValue);
+         return add(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+      }
+
+      public Builder contains(String fieldName, int expectedValue) {
+         return add(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+      }
+
+      public Builder contains(String fieldName, long expectedValue) {
+         return add(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+      }
+
+      public Builder contains(String fieldName, double expectedValue) {
+         return add(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+      }
+
+      public Builder contains(String fieldName, BigDecimal expectedValue) {
+         requireNonNull(expectedValue);
+         return add(fieldName, ObjectChecks.containsNumber(fieldName, ExpectedNumber.of(expectedValue), expectedValue));
+      }
+
+      public Builder containsNumber(String fieldName, String expectedValueAsString) {
+         requireNonNull(expectedValueAsString);
+         return add(fieldName,
+                    ObjectChecks.containsNumber(fieldName,
+                                                ExpectedNumber.of(new BigDecimal(expectedValueAsString)),
+                                                expectedValueAsString));
+      }
+
+      public Builder contains(String fieldName, boolean expectedValue) {
+         return add(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+      }
+
+      public Builder containsStringMatching(String fieldName, String valueRegex) {
+         requireNonNull(valueRegex);
+         return containsStringMatching(fieldName, Patterns.compile(valueRegex));
+      }
+
+      public Builder containsStringMatching(String fieldName, Pattern valuePattern) {
+         requireNonNull(valuePattern);
+         return add(fieldName, ObjectChecks.containsStringMatching(fieldName, valuePattern));
+      }
+
+      public Builder containsNumberMatching(String fieldName, String valueRegex) {
+         requireNonNull(valueRegex);
+         return containsNumberMatching(fieldName, Patterns.compile(valueRegex));
+      }
+
+      public Builder containsNumberMatching(String fieldName, Pattern valuePattern) {
+         requireNonNull(valuePattern);
+         return add(fieldName, ObjectChecks.containsNumberMatching(fieldName, valuePattern));
+      }
+
+      public Builder containsEmptyObject(String fieldName) {
+         return add(fieldName, ObjectChecks.containsEmptyObject(fieldName));
+      }
+
+      public Builder containsEmptyArray(String fieldName) {
+         return add(fieldName, ObjectChecks.containsEmptyArray(fieldName));
+      }
+
+      /**
+       * Adds arbitrary requirements on a field's value. The requirements must be thread-safe if the spec is shared
+       * between threads; an {@link AssertionError} they throw counts as a failed expectation.
+       */
+      public Builder containsNodeSatisfying(String fieldName, Consumer<JsonNode> valueRequirements) {
+         requireNonNull(valueRequirements);
+         return add(fieldName, ObjectChecks.containsNodeSatisfying(fieldName, valueRequirements));
+      }
+
+      /**
+       * Verifies that the object has no fields other than those named by the expectations of this spec.
+       */
+      public Builder containsNoUnassertedFields() {
+         noUnassertedFields = true;
+         return this;
+      }
+
+      public JsonSpec build() {
+         return new JsonSpec(this);
+      }
+
+      private Builder add(String fieldName, JsonCheck check) {
+         requireNonNull(fieldName);
+         assertedFields.add(fieldName);
+         checks.add(check);
+         return this;
+      }
+
+   }
+
+}
@@ -0,0 +1,103 @@
+package com.ragnaroh.assertj.json;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe cache bounded by both entry count and total weight, evicting the least recently used entries first.
+ * Values are loaded outside the lock, so concurrent misses for the same key may load it more than once.
+ */
+final class LruCache<K, V> {
+
+   private final int maxEntries;
+   private final long maxWeight;
+   private final ToLongFunction<? super K> weigher;
+   private final LinkedHashMap<K, Weighted<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+   private final AtomicLong hits = new AtomicLong();
+   private final AtomicLong misses = new AtomicLong();
+   private long weight;
+
+   LruCache(int maxEntries) {
+      this(maxEntries, Long.MAX_VALUE, key -> 1);
+   }
+
+   LruCache(int maxEntries, long maxWeight, ToLongFunction<? super K> weigher) {
+      if (maxEntries < 0 || maxWeight < 0) {
+         throw new IllegalArgumentException("Cache bounds must not be negative");
+      }
+      this.maxEntries = maxEntries;
+      this.maxWeight = maxWeight;
+      this.weigher = weigher;
+   }
+
+   /**
+    * Returns the cached value for the given key, loading and caching it on a miss. A {@code null} value from the
+    * loader is returned but not cached.
+    */
+   V get(K key, Function<? super K, ? extends V> loader) {
+      synchronized (this) {
+         Weighted<V> entry = entries.get(key);
+         if (entry != null) {
+            hits.incrementAndGet();
+            return entry.value;
+         }
+      }
+      misses.incrementAndGet();
+      V value = loader.apply(key);
+      if (value != null) {
+         put(key, value);
+      }
+      return value;
+   }
+
+   private synchronized void put(K key, V value) {
+      long entryWeight = weigher.applyAsLong(key);
+      if (maxEntries == 0 || entryWeight > maxWeight) {
+         return;
+      }
+      Weighted<V> previous = entries.put(key, new Weighted<>(value, entryWeight));
+      if (previous != null) {
+         weight -= previous.weight;
+      }
+      weight += entryWeight;
+      Iterator<Map.Entry<K, Weighted<V>>> eldest = entries.entrySet().iterator();
+      while (entries.size() > maxEntries || weight > maxWeight) {
+         weight -= eldest.next().getValue().weight;
+         eldest.remove();
+      }
+   }
+
+   synchronized void clear() {
+      entries.clear();
+      weight = 0;
+   }
+
+   synchronized int size() {
+      return entries.size();
+   }
+
+   long hitCount() {
+      return hits.get();
+   }
+
+   long missCount() {
+      return misses.get();
+   }
+
+   private static final class Weighted<V> {
+
+      private final V value;
+      private final long weight;
+
+      private Weighted(V value, long weight) {
+         this.value = value;
+         this.weight = weight;
+      }
+
+   }
+
+}
@@ -0,0 +1,83 @@
+package com.ragnaroh.assertj.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through memory-mapped segments, so its content is never copied onto the heap as a whole. Files
+ * larger than a single mapping (2 GB) are mapped one segment at a time.
+ */
+final class MappedFileInputStream extends InputStream {
+
+   static final long DEFAULT_SEGMENT_SIZE = 1L << 30;
+
+   private final FileChannel channel;
+   private final long size;
+   private final long segmentSize;
+   private long segmentStart;
+   private MappedByteBuffer segment;
+
+   MappedFileInputStream(Path path) throws IOException {
+      this(path, DEFAULT_SEGMENT_SIZE);
+   }
+
+   MappedFileInputStream(Path path, long segmentSize) throws IOException {
+      if (segmentSize <= 0 || segmentSize > Integer.MAX_VALUE) {
+         throw new IllegalArgumentException("Segment size must be positive and at most Integer.MAX_VALUE");
+      }
+      this.channel = FileChannel.open(path, StandardOpenOption.READ);
+      this.size = channel.size();
+      this.segmentSize = segmentSize;
+   }
+
+   @Override
+   public int read() throws IOException {
+      if (!ensureRemaining()) {
+         return -1;
+      }
+      return segment.get() & 0xFF;
+   }
+
+   @Override
+   public int read(byte[] buffer, int offset, int length) throws IOException {
+      if (length == 0) {
+         return 0;
+      }
+      if (!ensureRemaining()) {
+         return -1;
+      }
+      int count = Math.min(length, segment.remaining());
+      segment.get(buffer, offset, count);
+      return count;
+   }
+
+   @Override
+   public int available() {
+      long remaining = segment == null ? size - segmentStart : size - segmentStart - segment.position();
+      return (int) Math.min(remaining, Integer.MAX_VALUE);
+   }
+
+   private boolean ensureRemaining() throws IOException {
+      if (segment != null && segment.hasRemaining()) {
+         return true;
+      }
+      long nextStart = segment == null ? segmentStart : segmentStart + segment.capacity();
+      if (nextStart >= size) {
+         return false;
+      }
+      segmentStart = nextStart;
+      segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, Math.min(segmentSize, size - segmentStart));
+      return true;
+   }
+
+   @Override
+   public void close() throws IOException {
+      segment = null;
+      channel.close();
+   }
+
+}
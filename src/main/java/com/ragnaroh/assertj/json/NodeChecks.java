@@ -0,0 +1,90 @@
+package com.ragnaroh.assertj.json;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Non-throwing checks on a single JSON node, with the vocabulary and messages of {@link AbstractJsonNodeAssert}.
+ */
+final class NodeChecks {
+
+   private NodeChecks() {}
+
+   static JsonCheck isString() {
+      return actual -> actual.isTextual() ? null : typeFailure("a string", actual);
+   }
+
+   static JsonCheck isNumber() {
+      return actual -> actual.isNumber() ? null : typeFailure("a number", actual);
+   }
+
+   static JsonCheck isInteger() {
+      return actual -> AbstractJsonAssert.isInt(actual) ? null : typeFailure("an integer", actual);
+   }
+
+   static JsonCheck isBoolean() {
+      return actual -> actual.isBoolean() ? null : typeFailure("a boolean", actual);
+   }
+
+   static JsonCheck isObjectNode() {
+      return actual -> actual.isObject() ? null : typeFailure("an object", actual);
+   }
+
+   static JsonCheck isArrayNode() {
+      return actual -> actual.isArray() ? null : typeFailure("an array", actual);
+   }
+
+   static JsonCheck isStringEqualTo(String expected) {
+      return actual -> actual.isTextual() && expected.equals(actual.textValue())
+            ? null
+            : JsonFailure.of("Expected JSON node to be a string equal to <%s>, was <%s>", expected, actual);
+   }
+
+   static JsonCheck isNumberEqualTo(ExpectedNumber expected) {
+      return actual -> actual.isNumber() && expected.matches(actual)
+            ? null
+            : JsonFailure.of("Expected JSON node to be a number equal to <%s>, was <%s>", expected, actual);
+   }
+
+   static JsonCheck isBooleanEqualTo(boolean expected) {
+      return actual -> actual.isBoolean() && actual.booleanValue() == expected
+            ? null
+            : JsonFailure.of("Expected JSON node to be a boolean equal to <%s>, was <%s>", expected, actual);
+   }
+
+   static JsonCheck isEqualTo(JsonNode expected, int maxDifferences) {
+      return isEqualTo(expected, JsonComparison.STRICT, maxDifferences);
+   }
+
+   /**
+    * Identical trees are accepted without a diff, since every comparison accepts them. When both trees are read-only,
+    * their memoized fingerprints tell whether they can be identical at all without walking them.
+    */
+   static JsonCheck isEqualTo(JsonNode expected, JsonComparison comparison, int maxDifferences) {
+      return actual -> {
+         if (!knownToDiffer(expected, actual) && expected.equals(actual)) {
+            return null;
+         }
+         JsonDiff diff = JsonDiff.between(expected, actual, comparison, maxDifferences);
+         if (diff.isEmpty()) {
+            return null;
+         }
+         return JsonFailure.of("Expected JSON to be equal to expected JSON, found differences:%s", diff.describe());
+      };
+   }
+
+   private static boolean knownToDiffer(JsonNode expected, JsonNode actual) {
+      Long expectedFingerprint = JsonFingerprints.memoized(expected);
+      if (expectedFingerprint == null) {
+         return false;
+      }
+      Long actualFingerprint = JsonFingerprints.memoized(actual);
+      return actualFingerprint != null && !expectedFingerprint.equals(actualFingerprint);
+   }
+
+   private static JsonFailure typeFailure(String type, JsonNode actual) {
+      return JsonFailure.of("Expected JSON node to be " + type + ", was <%s>", actual);
+   }
+
+}
@@ -0,0 +1,248 @@
+package com.ragnaroh.assertj.json;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Non-throwing checks on the fields of a JSON object, with the vocabulary and messages of
+ * {@link AbstractObjectNodeAssert}.
+ */
+final class ObjectChecks {
+
+   private ObjectChecks() {}
+
+   static JsonCheck contains(String fieldName) {
+      return actual -> actual.has(fieldName) ? null : JsonFailure.of("No field named \"%s\"", fieldName);
+   }
+
+   static JsonCheck containsString(String fieldName) {
+      return field(fieldName, ObjectChecks::string);
+   }
+
+   static JsonCheck containsNumber(String fieldName) {
+      return field(fieldName, ObjectChecks::number);
+   }
+
+   static JsonCheck containsInteger(String fieldName) {
+      return field(fieldName, ObjectChecks::integer);
+   }
+
+   static JsonCheck containsBoolean(String fieldName) {
+      return field(fieldName, ObjectChecks::bool);
+   }
+
+   static JsonCheck containsNull(String fieldName) {
+      return field(fieldName, (name, value) -> value.isNull()
+            ? null
+            : JsonFailure.field(name, "Expected <null>, was: <%s>", value));
+   }
+
+   static JsonCheck containsObject(String fieldName) {
+      return field(fieldName, ObjectChecks::object);
+   }
+
+   static JsonCheck containsArray(String fieldName) {
+      return field(fieldName, ObjectChecks::array);
+   }
+
+   static JsonCheck contains(String fieldName, String expectedValue) {
+      return field(fieldName, (name, value) -> {
+         JsonFailure failure = string(name, value);
+         if (failure == null && !expectedValue.equals(value.textValue())) {
+            failure = valueFailure(name, expectedValue, value.textValue());
+         }
+         return failure;
+      });
+   }
+
+   static JsonCheck contains(String fieldName, int expectedValue) {
+      return field(fieldName, (name, value) -> {
+         JsonFailure failure = integer(name, value);
+         if (failure == null && value.intValue() != expectedValue) {
+            failure = valueFailure(name, expectedValue, value.intValue());
+         }
+         return failure;
+      });
+   }
+
+   static JsonCheck contains(String fieldName, long expectedValue) {
+      return field(fieldName, (name, value) -> {
+         if (!AbstractJsonAssert.isLong(value)) {
+            return JsonFailure.field(name, "Expected integral number, was: <%s>", value);
+         }
+         return value.longValue() == expectedValue ? null : valueFailure(name, expectedValue, value.longValue());
+      });
+   }
+
+   static JsonCheck contains(String fieldName, double expectedValue) {
+      return field(fieldName, (name, value) -> {
+         JsonFailure failure = number(name, value);
+         if (failure == null && value.doubleValue() != expectedValue) {
+            failure = valueFailure(name, expectedValue, value.numberValue());
+         }
+         return failure;
+      });
+   }
+
+   /**
+    * Compares numerically, reporting the expected value by the given description.
+    */
+   static JsonCheck containsNumber(String fieldName, ExpectedNumber expectedValue, Object expectedDescription) {
+      return field(fieldName, (name, value) -> {
+         JsonFailure failure = number(name, value);
+         if (failure == null && !expectedValue.matches(value)) {
+            failure = valueFailure(name, expectedDescription, value.numberValue());
+         }
+         return failure;
+      });
+   }
+
+   static JsonCheck contains(String fieldName, boolean expectedValue) {
+      return field(fieldName, (name, value) -> {
+         JsonFailure failure = bool(name, value);
+         if (failure == null && value.booleanValue() != expectedValue) {
+            failure = valueFailure(name, expectedValue, value.booleanValue());
+         }
+         return failure;
+      });
+   }
+
+   static JsonCheck containsStringMatching(String fieldName, Pattern valuePattern) {
+      return field(fieldName, (name, value) -> {
+         JsonFailure failure = string(name, value);
+         if (failure == null && !valuePattern.matcher(value.textValue()).matches()) {
+            failure = JsonFailure.field(name,
+                                        "Expected value matching regex <%s>, was: <%s>",
+                                        valuePattern,
+                                        value.textValue());
+         }
+         return failure;
+      });
+   }
+
+   static JsonCheck containsNumberMatching(String fieldName, Pattern valuePattern) {
+      return field(fieldName, (name, value) -> {
+         JsonFailure failure = number(name, value);
+         if (failure == null && !valuePattern.matcher(value.numberValue().toString()).matches()) {
+            failure = JsonFailure.field(name,
+                                        "Expected value matching regex <%s>, was: <%s>",
+                                        valuePattern,
+                                        value.numberValue());
+         }
+         return failure;
+      });
+   }
+
+   static JsonCheck containsEmptyObject(String fieldName) {
+      return field(fieldName, (name, value) -> {
+         JsonFailure failure = object(name, value);
+         if (failure == null && value.size() != 0) {
+            failure = JsonFailure.field(name, "Expected empty object, was: <%s>", value);
+         }
+         return failure;
+      });
+   }
+
+   static JsonCheck containsEmptyArray(String fieldName) {
+      return field(fieldName, (name, value) -> {
+         JsonFailure failure = array(name, value);
+         if (failure == null && value.size() != 0) {
+            failure = JsonFailure.field(name, "Expected empty array, was: <%s>", value);
+         }
+         return failure;
+      });
+   }
+
+   /**
+    * An {@link AssertionError} thrown by the requirements counts as a failure.
+    */
+   static JsonCheck containsNodeSatisfying(String fieldName, Consumer<JsonNode> valueRequirements) {
+      return field(fieldName, (name, value) -> {
+         try {
+            valueRequirements.accept(value);
+            return null;
+         } catch (AssertionError e) {
+            return JsonFailure.field(name, "%s", e.getMessage());
+         }
+      });
+   }
+
+   static JsonCheck containsNodeMatching(String fieldName, JsonCheck valueCheck) {
+      return field(fieldName, (name, value) -> {
+         JsonFailure failure = valueCheck.check(value);
+         return failure == null ? null : failure.inField(name);
+      });
+   }
+
+   static JsonCheck containsNoFieldsOtherThan(Set<String> assertedFields) {
+      return actual -> {
+         List<String> additionalFields = null;
+         Iterator<String> actualFields = actual.fieldNames();
+         while (actualFields.hasNext()) {
+            String field = actualFields.next();
+            if (!assertedFields.contains(field)) {
+               if (additionalFields == null) {
+                  additionalFields = new ArrayList<>();
+               }
+               additionalFields.add(field);
+            }
+         }
+         return additionalFields == null ? null : JsonFailure.of("Found additional fields: <%s>", additionalFields);
+      };
+   }
+
+   private static JsonCheck field(String fieldName, FieldCheck check) {
+      return actual -> {
+         JsonNode value = actual.get(fieldName);
+         if (value == null) {
+            return JsonFailure.of("Expected field named \"%s\"", fieldName);
+         }
+         return check.check(fieldName, value);
+      };
+   }
+
+   private static JsonFailure valueFailure(String fieldName, Object expectedValue, Object actualValue) {
+      return JsonFailure.field(fieldName, "Expected value <%s>, was: <%s>", expectedValue, actualValue);
+   }
+
+   private static JsonFailure string(String fieldName, JsonNode value) {
+      return value.isTextual() ? null : JsonFailure.field(fieldName, "Expected string, was: <%s>", value);
+   }
+
+   private static JsonFailure number(String fieldName, JsonNode value) {
+      return value.isNumber() ? null : JsonFailure.field(fieldName, "Expected number, was: <%s>", value);
+   }
+
+   private static JsonFailure integer(String fieldName, JsonNode value) {
+      return AbstractJsonAssert.isInt(value)
+            ? null
+            : JsonFailure.field(fieldName, "Expected integral number, was: <%s>", value);
+   }
+
+   private static JsonFailure bool(String fieldName, JsonNode value) {
+      return value.isBoolean() ? null : JsonFailure.field(fieldName, "Expected boolean, was: <%s>", value);
+   }
+
+   private static JsonFailure object(String fieldName, JsonNode value) {
+      return value.isObject() ? null : JsonFailure.field(fieldName, "Expected JSON object, was: <%s>", value);
+   }
+
+   private static JsonFailure array(String fieldName, JsonNode value) {
+      return value.isArray() ? null : JsonFailure.field(fieldName, "Expected JSON array, was: <%s>", value);
+   }
+
+   @FunctionalInterface
+   private interface FieldCheck {
+
+      JsonFailure check(String fieldName, JsonNode value);
+
+   }
+
+}
@@ -0,0 +1,139 @@
+package com.ragnaroh.assertj.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Process-wide registry of immutable, pre-configured readers. Readers are thread-safe and never mutated; any
+ * reconfiguration derives a new reader.
+ */
+final class ObjectReaders {
+
+   private static final ObjectReader JSON_NODE_READER = new ObjectMapper().readerFor(JsonNode.class);
+   private static final ObjectReader OBJECT_NODE_READER = JSON_NODE_READER.forType(ObjectNode.class);
+   private static final ObjectReader ARRAY_NODE_READER = JSON_NODE_READER.forType(ArrayNode.class);
+
+   private ObjectReaders() {}
+
+   static ObjectReader jsonNodeReader() {
+      return JSON_NODE_READER;
+   }
+
+   /**
+    * Returns a reader with {@link JavaTimeModule} registered. The module is registered on first use only.
+    */
+   static ObjectReader javaTimeReader() {
+      return JavaTimeHolder.READER;
+   }
+
+   static JsonNode readJsonNode(String json) {
+      JsonNode cached = ParsedJsonCache.get(json);
+      if (cached != null) {
+         return cached;
+      }
+      try {
+         return JSON_NODE_READER.readValue(json);
+      } catch (JsonProcessingException e) {
+         throw new IllegalArgumentException("Could not parse actual value as JSON node: " + e.getMessage());
+      }
+   }
+
+   static JsonNode readJsonNode(byte[] json) {
+      try {
+         return JSON_NODE_READER.readValue(json);
+      } catch (JsonProcessingException e) {
+         throw new IllegalArgumentException("Could not parse actual value as JSON node: " + e.getMessage());
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   static ObjectNode readObjectNode(String json) {
+      JsonNode cached = ParsedJsonCache.get(json);
+      if (cached instanceof ObjectNode) {
+         return (ObjectNode) cached;
+      }
+      try {
+         return OBJECT_NODE_READER.readValue(json);
+      } catch (JsonProcessingException e) {
+         throw new IllegalArgumentException("Could not parse actual value as JSON object node: " + e.getMessage());
+      }
+   }
+
+   static ArrayNode readArrayNode(String json) {
+      JsonNode cached = ParsedJsonCache.get(json);
+      if (cached instanceof ArrayNode) {
+         return (ArrayNode) cached;
+      }
+      try {
+         return ARRAY_NODE_READER.readValue(json);
+      } catch (JsonProcessingException e) {
+         throw new IllegalArgumentException("Could not parse actual value as JSON array node: " + e.getMessage());
+      }
+   }
+
+   static JsonNode readJsonNode(Path file) {
+      return readFile(file, JSON_NODE_READER, "JSON node");
+   }
+
+   static ObjectNode readObjectNode(Path file) {
+      return readFile(file, OBJECT_NODE_READER, "JSON object node");
+   }
+
+   static ArrayNode readArrayNode(Path file) {
+      return readFile(file, ARRAY_NODE_READER, "JSON array node");
+   }
+
+   static <T extends JsonNode> T read(byte[] data, JsonFormat format, Class<T> type, String description) {
+      try {
+         return readerFor(format, type).readValue(data);
+      } catch (JsonProcessingException e) {
+         throw new IllegalArgumentException("Could not parse actual value as " + description + ": " + e.getMessage());
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   static <T extends JsonNode> T read(InputStream in, JsonFormat format, Class<T> type, String description) {
+      try {
+         return readerFor(format, type).readValue(in);
+      } catch (JsonProcessingException e) {
+         throw new IllegalArgumentException("Could not parse actual value as " + description + ": " + e.getMessage());
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   private static ObjectReader readerFor(JsonFormat format, Class<? extends JsonNode> type) {
+      ObjectReader reader = format.reader();
+      return type == JsonNode.class ? reader : reader.forType(type);
+   }
+
+   private static <T> T readFile(Path file, ObjectReader reader, String description) {
+      try (InputStream in = new MappedFileInputStream(file)) {
+         return reader.readValue(in);
+      } catch (JsonProcessingException e) {
+         throw new IllegalArgumentException("Could not parse actual value as " + description + ": " + e.getMessage());
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   private static final class JavaTimeHolder {
+
+      private static final ObjectReader READER = new ObjectMapper().registerModule(new JavaTimeModule())
+                                                                   .readerFor(JsonNode.class);
+
+   }
+
+}
@@ -0,0 +1,153 @@
+package com.ragnaroh.assertj.json;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+/**
+ * Evaluates requirements on the elements of an array in chunks on a dedicated {@link ForkJoinPool}. Every element is
+ * evaluated, and results are combined in index order, so the outcome does not depend on scheduling: the failure
+ * reported is always the one at the lowest index, along with the total number of failed elements.
+ */
+final class ParallelElementEvaluation<T> {
+
+   static final int DEFAULT_CHUNK_SIZE = 1024;
+
+   private final ArrayNode array;
+   private final Function<JsonNode, T> converter;
+   private final Supplier<? extends Consumer<? super T>> requirements;
+   private final int chunkSize;
+
+   private ParallelElementEvaluation(ArrayNode array,
+                                    Function<JsonNode, T> converter,
+                                    Supplier<? extends Consumer<? super T>> requirements,
+                                    int chunkSize) {
+      this.array = array;
+      this.converter = converter;
+      this.requirements = requirements;
+      this.chunkSize = chunkSize;
+   }
+
+   /**
+    * Evaluates the requirements on every element. Each chunk obtains its own consumer from the supplier, and uses it
+    * from a single thread only.
+    */
+   static <T> Outcome evaluate(ArrayNode array,
+                               Function<JsonNode, T> converter,
+                               Supplier<? extends Consumer<? super T>> requirements,
+                               int parallelism,
+                               int chunkSize) {
+      ParallelElementEvaluation<T> evaluation = new ParallelElementEvaluation<>(array, converter, requirements, chunkSize);
+      ForkJoinPool pool = new ForkJoinPool(parallelism);
+      try {
+         return pool.invoke(evaluation.new Chunk(0, array.size()));
+      } finally {
+         pool.shutdown();
+      }
+   }
+
+   private final class Chunk extends RecursiveTask<Outcome> {
+
+      private static final long serialVersionUID = 1L;
+
+      private final int from;
+      private final int to;
+
+      private Chunk(int from, int to) {
+         this.from = from;
+         this.to = to;
+      }
+
+      @Override
+      protected Outcome compute() {
+         if (to - from <= chunkSize) {
+            return evaluateSequentially();
+         }
+         int middle = (from + to) >>> 1;
+         Chunk right = new Chunk(middle, to);
+         right.fork();
+         Outcome left = new Chunk(from, middle).compute();
+         return left.followedBy(right.join());
+      }
+
+      private Outcome evaluateSequentially() {
+         Consumer<? super T> consumer = requirements.get();
+         Outcome outcome = Outcome.SUCCESS;
+         for (int i = from; i < to; i++) {
+            JsonNode element = array.get(i);
+            T value = converter.apply(element);
+            if (value == null) {
+               outcome = outcome.followedBy(new Outcome(i, element, null, 1));
+               continue;
+            }
+            try {
+               consumer.accept(value);
+            } catch (AssertionError e) {
+               outcome = outcome.followedBy(new Outcome(i, element, e, 1));
+            }
+         }
+         return outcome;
+      }
+
+   }
+
+   static final class Outcome {
+
+      private static final Outcome SUCCESS = new Outcome(-1, null, null, 0);
+
+      private final int firstIndex;
+      private final JsonNode firstElement;
+      private final AssertionError firstError;
+      private final int failureCount;
+
+      private Outcome(int firstIndex, JsonNode firstElement, AssertionError firstError, int failureCount) {
+         this.firstIndex = firstIndex;
+         this.firstElement = firstElement;
+         this.firstError = firstError;
+         this.failureCount = failureCount;
+      }
+
+      /**
+       * Combines this outcome with that of the elements following it.
+       */
+      private Outcome followedBy(Outcome next) {
+         if (next.failureCount == 0) {
+            return this;
+         }
+         if (failureCount == 0) {
+            return next;
+         }
+         return new Outcome(firstIndex, firstElement, firstError, failureCount + next.failureCount);
+      }
+
+      boolean isSuccess() {
+         return failureCount == 0;
+      }
+
+      int firstIndex() {
+         return firstIndex;
+      }
+
+      JsonNode firstElement() {
+         return firstElement;
+      }
+
+      /**
+       * Returns the error of the first failed element, or {@code null} if that element had the wrong type.
+       */
+      AssertionError firstError() {
+         return firstError;
+      }
+
+      int failureCount() {
+         return failureCount;
+      }
+
+   }
+
+}
@@ -0,0 +1,98 @@
+package com.ragnaroh.assertj.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Opt-in cache of parsed "actual" documents, used by the {@code String} entry points in {@link Assertions}. Repeated
+ * assertions on the same payload then parse it only once.
+ * <p>
+ * Documents are looked up by string identity first and by content second. The cache is bounded by entry count and
+ * by total weight (in characters), evicting the least recently used documents first. Cached trees are read-only;
+ * attempts to modify them throw {@link UnsupportedOperationException}.
+ */
+public final class ParsedJsonCache {
+
+   private static volatile LruCache<DocumentKey, JsonNode> cache;
+
+   private ParsedJsonCache() {}
+
+   public static void enable(int maxEntries, long maxWeightInChars) {
+      cache = new LruCache<>(maxEntries, maxWeightInChars, DocumentKey::weight);
+   }
+
+   public static void disable() {
+      cache = null;
+   }
+
+   public static boolean isEnabled() {
+      return cache != null;
+   }
+
+   public static void clear() {
+      LruCache<DocumentKey, JsonNode> current = cache;
+      if (current != null) {
+         current.clear();
+      }
+   }
+
+   public static long hitCount() {
+      LruCache<DocumentKey, JsonNode> current = cache;
+      return current == null ? 0 : current.hitCount();
+   }
+
+   public static long missCount() {
+      LruCache<DocumentKey, JsonNode> current = cache;
+      return current == null ? 0 : current.missCount();
+   }
+
+   /**
+    * Returns the read-only tree of the given document, or {@code null} if the cache is disabled or the document
+    * could not be parsed.
+    */
+   static JsonNode get(String json) {
+      LruCache<DocumentKey, JsonNode> current = cache;
+      if (current == null) {
+         return null;
+      }
+      return current.get(new DocumentKey(json), ParsedJsonCache::parse);
+   }
+
+   private static JsonNode parse(DocumentKey key) {
+      try {
+         JsonNode node = ObjectReaders.jsonNodeReader().readValue(key.json);
+         return ReadOnlyJsonNodes.freeze(node);
+      } catch (JsonProcessingException e) {
+         return null;
+      }
+   }
+
+   private static final class DocumentKey {
+
+      private final String json;
+
+      private DocumentKey(String json) {
+         this.json = json;
+      }
+
+      private long weight() {
+         return json.length();
+      }
+
+      @Override
+      public int hashCode() {
+         return json.hashCode();
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+         if (!(obj instanceof DocumentKey)) {
+            return false;
+         }
+         String other = ((DocumentKey) obj).json;
+         return json == other || json.equals(other);
+      }
+
+   }
+
+}
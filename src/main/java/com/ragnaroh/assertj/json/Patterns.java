@@ -0,0 +1,19 @@
+package com.ragnaroh.assertj.json;
+
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of compiled regular expressions, so that regexes given as strings are compiled once rather than on
+ * every match.
+ */
+final class Patterns {
+
+   private static final LruCache<String, Pattern> CACHE = new LruCache<>(256);
+
+   private Patterns() {}
+
+   static Pattern compile(String regex) {
+      return CACHE.get(regex, Pattern::compile);
+   }
+
+}
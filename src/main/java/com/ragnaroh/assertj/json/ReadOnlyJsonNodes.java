@@ -0,0 +1,104 @@
+package com.ragnaroh.assertj.json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Creates read-only trees that are safe to share between asserts and threads. Containers are backed by
+ * unmodifiable collections, so any attempt to mutate them throws {@link UnsupportedOperationException}. Value
+ * nodes are immutable already and are shared as is. The {@link JsonFingerprints fingerprints} of frozen containers
+ * are computed once, bottom-up, while freezing, and kept in the containers themselves.
+ */
+final class ReadOnlyJsonNodes {
+
+   private ReadOnlyJsonNodes() {}
+
+   static JsonNode freeze(JsonNode node) {
+      if (node instanceof ObjectNode) {
+         return freezeObject((ObjectNode) node);
+      }
+      if (node instanceof ArrayNode) {
+         return freezeArray((ArrayNode) node);
+      }
+      return node;
+   }
+
+   private static ObjectNode freezeObject(ObjectNode node) {
+      Map<String, JsonNode> children = new LinkedHashMap<>(capacity(node.size()));
+      Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+         Map.Entry<String, JsonNode> field = fields.next();
+         children.put(field.getKey(), freeze(field.getValue()));
+      }
+      return new FrozenObjectNode(Collections.unmodifiableMap(children));
+   }
+
+   private static ArrayNode freezeArray(ArrayNode node) {
+      List<JsonNode> children = new ArrayList<>(node.size());
+      for (JsonNode element : node) {
+         children.add(freeze(element));
+      }
+      return new FrozenArrayNode(Collections.unmodifiableList(children));
+   }
+
+   private static int capacity(int size) {
+      return (int) (size / 0.75f) + 1;
+   }
+
+   /**
+    * A read-only container, which knows its fingerprint.
+    */
+   interface Frozen {
+
+      long fingerprint();
+
+   }
+
+   @SuppressWarnings({"unchecked", "java:S2160"})
+   private static final class FrozenObjectNode extends ObjectNode implements Frozen {
+
+      private static final long serialVersionUID = 1L;
+
+      private final long fingerprint;
+
+      FrozenObjectNode(Map<String, JsonNode> children) {
+         super(JsonNodeFactory.instance, children);
+         this.fingerprint = JsonFingerprints.compute(this);
+      }
+
+      @Override
+      public long fingerprint() {
+         return fingerprint;
+      }
+
+   }
+
+   @SuppressWarnings({"unchecked", "java:S2160"})
+   private static final class FrozenArrayNode extends ArrayNode implements Frozen {
+
+      private static final long serialVersionUID = 1L;
+
+      private final long fingerprint;
+
+      FrozenArrayNode(List<JsonNode> children) {
+         super(JsonNodeFactory.instance, children);
+         this.fingerprint = JsonFingerprints.compute(this);
+      }
+
+      @Override
+      public long fingerprint() {
+         return fingerprint;
+      }
+
+   }
+
+}
@@ -0,0 +1,112 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+/**
+ * Soft counterpart of {@link ArrayNodeAssert}, see {@link JsonSoftAssertions}.
+ */
+public class SoftArrayNodeAssert extends AbstractSoftJsonAssert<SoftArrayNodeAssert, ArrayNode> {
+
+   SoftArrayNodeAssert(JsonSoftAssertions softly, ArrayNode actual, String pointer) {
+      super(softly, actual, pointer, SoftArrayNodeAssert.class);
+   }
+
+   public SoftArrayNodeAssert isEmpty() {
+      return check(ArrayChecks.isEmpty());
+   }
+
+   public SoftArrayNodeAssert hasSize(int expectedSize) {
+      return check(ArrayChecks.hasSize(expectedSize));
+   }
+
+   public SoftArrayNodeAssert containsExactly(String... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsExactly(expected));
+   }
+
+   public SoftArrayNodeAssert containsExactly(int... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsExactly(expected));
+   }
+
+   public SoftArrayNodeAssert containsExactly(long... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsExactly(expected));
+   }
+
+   public SoftArrayNodeAssert containsExactly(double... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsExactly(expected));
+   }
+
+   public SoftArrayNodeAssert containsExactly(boolean... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsExactly(expected));
+   }
+
+   public SoftArrayNodeAssert containsExactlyInAnyOrder(JsonNode... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsExactlyInAnyOrder(expected, softly().maxDifferences()));
+   }
+
+   public SoftArrayNodeAssert containsExactlyInAnyOrder(JsonExpectation expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsExactlyInAnyOrder(expected.elements(), softly().maxDifferences()));
+   }
+
+   public SoftArrayNodeAssert containsOnly(JsonNode... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsOnly(expected, softly().maxDifferences()));
+   }
+
+   public SoftArrayNodeAssert containsOnly(JsonExpectation expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsOnly(expected.elements(), softly().maxDifferences()));
+   }
+
+   public SoftArrayNodeAssert containsAll(JsonNode... expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsAll(expected, softly().maxDifferences()));
+   }
+
+   public SoftArrayNodeAssert containsAll(JsonExpectation expected) {
+      requireNonNull(expected);
+      return check(ArrayChecks.containsAll(expected.elements(), softly().maxDifferences()));
+   }
+
+   public SoftArrayNodeAssert containsNone(JsonNode... unexpected) {
+      requireNonNull(unexpected);
+      return check(ArrayChecks.containsNone(unexpected, softly().maxDifferences()));
+   }
+
+   public SoftArrayNodeAssert containsNone(JsonExpectation unexpected) {
+      requireNonNull(unexpected);
+      return check(ArrayChecks.containsNone(unexpected.elements(), softly().maxDifferences()));
+   }
+
+   public SoftArrayNodeAssert containsStringsMatching(String regex) {
+      requireNonNull(regex);
+      return containsStringsMatching(Patterns.compile(regex));
+   }
+
+   public SoftArrayNodeAssert containsStringsMatching(Pattern pattern) {
+      requireNonNull(pattern);
+      return check(ArrayChecks.containsStringsMatching(pattern));
+   }
+
+   public SoftArrayNodeAssert containsNumbersMatching(String regex) {
+      requireNonNull(regex);
+      return containsNumbersMatching(Patterns.compile(regex));
+   }
+
+   public SoftArrayNodeAssert containsNumbersMatching(Pattern pattern) {
+      requireNonNull(pattern);
+      return check(ArrayChecks.containsNumbersMatching(pattern));
+   }
+
+}
@@ -0,0 +1,86 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Soft counterpart of {@link JsonNodeAssert}, see {@link JsonSoftAssertions}.
+ */
+public class SoftJsonNodeAssert extends AbstractSoftJsonAssert<SoftJsonNodeAssert, JsonNode> {
+
+   SoftJsonNodeAssert(JsonSoftAssertions softly, JsonNode actual, String pointer) {
+      super(softly, actual, pointer, SoftJsonNodeAssert.class);
+   }
+
+   public SoftJsonNodeAssert isString() {
+      return check(NodeChecks.isString());
+   }
+
+   public SoftJsonNodeAssert isNumber() {
+      return check(NodeChecks.isNumber());
+   }
+
+   public SoftJsonNodeAssert isInteger() {
+      return check(NodeChecks.isInteger());
+   }
+
+   public SoftJsonNodeAssert isBoolean() {
+      return check(NodeChecks.isBoolean());
+   }
+
+   public SoftJsonNodeAssert isObjectNode() {
+      return check(NodeChecks.isObjectNode());
+   }
+
+   public SoftJsonNodeAssert isArrayNode() {
+      return check(NodeChecks.isArrayNode());
+   }
+
+   public SoftJsonNodeAssert isStringEqualTo(String expected) {
+      requireNonNull(expected);
+      return check(NodeChecks.isStringEqualTo(expected));
+   }
+
+   public SoftJsonNodeAssert isNumberEqualTo(Number expected) {
+      requireNonNull(expected);
+      return check(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
+   }
+
+   public SoftJsonNodeAssert isNumberEqualTo(int expected) {
+      return check(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
+   }
+
+   public SoftJsonNodeAssert isNumberEqualTo(double expected) {
+      return check(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
+   }
+
+   public SoftJsonNodeAssert isNumberEqualTo(String expectedNumberAsString) {
+      requireNonNull(expectedNumberAsString);
+      return isNumberEqualTo(new BigDecimal(expectedNumberAsString));
+   }
+
+   public SoftJsonNodeAssert isNumberEqualTo(BigDecimal expected) {
+      requireNonNull(expected);
+      return check(NodeChecks.isNumberEqualTo(ExpectedNumber.of(expected)));
+   }
+
+   public SoftJsonNodeAssert isBooleanEqualTo(boolean expected) {
+      return check(NodeChecks.isBooleanEqualTo(expected));
+   }
+
+   public SoftObjectNodeAssert asObjectNode() {
+      ObjectNode objectNode = passes(NodeChecks.isObjectNode()) ? (ObjectNode) actual : null;
+      return new SoftObjectNodeAssert(softly(), objectNode, pointer());
+   }
+
+   public SoftArrayNodeAssert asArrayNode() {
+      ArrayNode arrayNode = passes(NodeChecks.isArrayNode()) ? (ArrayNode) actual : null;
+      return new SoftArrayNodeAssert(softly(), arrayNode, pointer());
+   }
+
+}
@@ -0,0 +1,160 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Soft counterpart of {@link ObjectNodeAssert}, see {@link JsonSoftAssertions}.
+ */
+public class SoftObjectNodeAssert extends AbstractSoftJsonAssert<SoftObjectNodeAssert, ObjectNode> {
+
+   private final Set<String> assertedFields = new HashSet<>();
+
+   SoftObjectNodeAssert(JsonSoftAssertions softly, ObjectNode actual, String pointer) {
+      super(softly, actual, pointer, SoftObjectNodeAssert.class);
+   }
+
+   public SoftObjectNodeAssert contains(String fieldName) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.contains(fieldName));
+   }
+
+   public SoftObjectNodeAssert containsString(String fieldName) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.containsString(fieldName));
+   }
+
+   public SoftObjectNodeAssert containsNumber(String fieldName) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.containsNumber(fieldName));
+   }
+
+   public SoftObjectNodeAssert containsInteger(String fieldName) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.containsInteger(fieldName));
+   }
+
+   public SoftObjectNodeAssert containsBoolean(String fieldName) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.containsBoolean(fieldName));
+   }
+
+   public SoftObjectNodeAssert containsNull(String fieldName) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.containsNull(fieldName));
+   }
+
+   public SoftObjectNodeAssert containsObject(String fieldName) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.containsObject(fieldName));
+   }
+
+   public SoftObjectNodeAssert containsArray(String fieldName) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.containsArray(fieldName));
+   }
+
+   public SoftObjectNodeAssert contains(String fieldName, String expectedValue) {
+      requireNonNull(fieldName);
+      requireNonNull(expectedValue);
+      return checkField(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+   }
+
+   public SoftObjectNodeAssert contains(String fieldName, int expectedValue) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+   }
+
+   public SoftObjectNodeAssert contains(String fieldName, long expectedValue) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+   }
+
+   public SoftObjectNodeAssert contains(String fieldName, double expectedValue) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+   }
+
+   public SoftObjectNodeAssert contains(String fieldName, BigDecimal expectedValue) {
+      requireNonNull(fieldName);
+      requireNonNull(expectedValue);
+      return checkField(fieldName,
+                        ObjectChecks.containsNumber(fieldName, ExpectedNumber.of(expectedValue), expectedValue));
+   }
+
+   public SoftObjectNodeAssert containsNumber(String fieldName, String expectedValueAsString) {
+      requireNonNull(fieldName);
+      requireNonNull(expectedValueAsString);
+      return checkField(fieldName,
+                        ObjectChecks.containsNumber(fieldName,
+                                                    ExpectedNumber.of(new BigDecimal(expectedValueAsString)),
+                                                    expectedValueAsString));
+   }
+
+   public SoftObjectNodeAssert contains(String fieldName, boolean expectedValue) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.contains(fieldName, expectedValue));
+   }
+
+   public SoftObjectNodeAssert containsStringMatching(String fieldName, String valueRegex) {
+      requireNonNull(valueRegex);
+      return containsStringMatching(fieldName, Patterns.compile(valueRegex));
+   }
+
+   public SoftObjectNodeAssert containsStringMatching(String fieldName, Pattern valuePattern) {
+      requireNonNull(fieldName);
+      requireNonNull(valuePattern);
+      return checkField(fieldName, ObjectChecks.containsStringMatching(fieldName, valuePattern));
+   }
+
+   public SoftObjectNodeAssert containsNumberMatching(String fieldName, String valueRegex) {
+      requireNonNull(valueRegex);
+      return containsNumberMatching(fieldName, Patterns.compile(valueRegex));
+   }
+
+   public SoftObjectNodeAssert containsNumberMatching(String fieldName, Pattern valuePattern) {
+      requireNonNull(fieldName);
+      requireNonNull(valuePattern);
+      return checkField(fieldName, ObjectChecks.containsNumberMatching(fieldName, valuePattern));
+   }
+
+   public SoftObjectNodeAssert containsEmptyObject(String fieldName) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.containsEmptyObject(fieldName));
+   }
+
+   public SoftObjectNodeAssert containsEmptyArray(String fieldName) {
+      requireNonNull(fieldName);
+      return checkField(fieldName, ObjectChecks.containsEmptyArray(fieldName));
+   }
+
+   /**
+    * An {@link AssertionError} thrown by the requirements is recorded as a failure.
+    */
+   public SoftObjectNodeAssert containsNodeSatisfying(String fieldName, Consumer<JsonNode> valueRequirements) {
+      requireNonNull(fieldName);
+      requireNonNull(valueRequirements);
+      return checkField(fieldName, ObjectChecks.containsNodeSatisfying(fieldName, valueRequirements));
+   }
+
+   /**
+    * Verifies that all fields have been asserted (by any of the "contains*" methods).
+    */
+   public SoftObjectNodeAssert containsNoUnassertedFields() {
+      return check(ObjectChecks.containsNoFieldsOtherThan(assertedFields));
+   }
+
+   private SoftObjectNodeAssert checkField(String fieldName, JsonCheck check) {
+      assertedFields.add(fieldName);
+      return check(check);
+   }
+
+}
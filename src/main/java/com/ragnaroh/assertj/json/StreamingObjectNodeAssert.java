@@ -0,0 +1,124 @@
+package com.ragnaroh.assertj.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Assertions on a JSON object read from a stream. The "contains*" methods only record the requirements; nothing is
+ * read until {@link #verify()} is called. The document is then read in a single pass, and only the subtrees of
+ * fields with recorded requirements are ever built. Requirements on a field are evaluated as soon as the field has
+ * been read, so a violation is reported without reading the rest of the document.
+ * <p>
+ * The stream is not closed. Documents that arrive in chunks, such as asynchronous HTTP bodies, are asserted with
+ * {@link ChunkedObjectNodeAssert} instead.
+ */
+public class StreamingObjectNodeAssert extends AbstractStreamingObjectNodeAssert<StreamingObjectNodeAssert> {
+
+   private final ParserSource source;
+
+   public StreamingObjectNodeAssert(InputStream actual) {
+      super(StreamingObjectNodeAssert.class);
+      requireNonNull(actual);
+      this.source = reader -> reader.createParser(actual);
+   }
+
+   public StreamingObjectNodeAssert(Reader actual) {
+      super(StreamingObjectNodeAssert.class);
+      requireNonNull(actual);
+      this.source = reader -> reader.createParser(actual);
+   }
+
+   /**
+    * Reads the document and evaluates all recorded requirements.
+    */
+   public void verify() {
+      ObjectReader reader = configuration().reader();
+      FieldFilter filter = new FieldFilter(plannedFields());
+      Set<String> evaluatedFields = new HashSet<>();
+      try (JsonParser parser = source.open(reader)) {
+         parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+         JsonParser filtered = new FilteringParserDelegate(parser,
+                                                           filter,
+                                                           TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH,
+                                                           true);
+         JsonToken token = filtered.nextToken();
+         if (token == JsonToken.START_OBJECT) {
+            while (filtered.nextToken() == JsonToken.FIELD_NAME) {
+               String fieldName = filtered.getCurrentName();
+               filtered.nextToken();
+               JsonNode value = reader.readTree(filtered);
+               ObjectNode field = reader.getConfig().getNodeFactory().objectNode();
+               field.set(fieldName, value);
+               evaluate(fieldName, field);
+               evaluatedFields.add(fieldName);
+            }
+         }
+      } catch (JsonProcessingException e) {
+         throw new IllegalArgumentException("Could not parse actual value as JSON object node: " + e.getMessage());
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+      if (!filter.rootIsObject) {
+         throw new AssertionError("Expected JSON object");
+      }
+      evaluateMissing(evaluatedFields);
+   }
+
+   @FunctionalInterface
+   private interface ParserSource {
+
+      JsonParser open(ObjectReader reader) throws IOException;
+
+   }
+
+   /**
+    * Includes the root object's fields with recorded requirements, and nothing else.
+    */
+   private static final class FieldFilter extends TokenFilter {
+
+      private final Set<String> fieldNames;
+      private boolean rootIsObject;
+
+      private FieldFilter(Set<String> fieldNames) {
+         this.fieldNames = fieldNames;
+      }
+
+      @Override
+      public TokenFilter filterStartObject() {
+         rootIsObject = true;
+         return this;
+      }
+
+      @Override
+      public TokenFilter filterStartArray() {
+         return null;
+      }
+
+      @Override
+      public TokenFilter includeProperty(String name) {
+         return fieldNames.contains(name) ? TokenFilter.INCLUDE_ALL : null;
+      }
+
+      @Override
+      protected boolean _includeScalar() {
+         return false;
+      }
+
+   }
+
+}
@@ -2,20 +2,48 @@ package com.ragnaroh.assertj.json;
 
 import static com.ragnaroh.assertj.json.Assertions.assertThat;
 import static com.ragnaroh.assertj.json.Assertions.assertThatJson;
+import static com.ragnaroh.assertj.json.Assertions.assertThatJsonArray;
+import static com.ragnaroh.assertj.json.Assertions.assertThatJsonArrayFile;
+import static com.ragnaroh.assertj.json.Assertions.assertThatJsonChunks;
+import static com.ragnaroh.assertj.json.Assertions.assertThatJsonFile;
+import static com.ragnaroh.assertj.json.Assertions.assertThatJsonLines;
+import static com.ragnaroh.assertj.json.Assertions.assertThatJsonObject;
+import static com.ragnaroh.assertj.json.Assertions.assertThatJsonObjectFile;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 class AssertionsTest {
 
@@ -143,6 +171,23 @@ class AssertionsTest {
             });
    }
 
+   @Test
+   void numericComparisonAgreesWithBigDecimal() {
+      var nodes = List.of("0", "-0.0", "1", "1.0", "1.5", "0.1", "2147483648", "9007199254740993", "9223372036854775807",
+                          "-9223372036854775808", "92233720368547758070", "1E+20", "1.0E-3", "0.30000000000000004");
+      var expectations = List.<Number>of(0, 1, -1, 1.5, 0.1, 0.001, 1e20, 2147483648L, 9007199254740992L,
+                                         9007199254740993L, Long.MAX_VALUE, Long.MIN_VALUE, 0.1 + 0.2,
+                                         new BigDecimal("1.00"), new BigDecimal("92233720368547758070"),
+                                         new BigDecimal("9007199254740993"));
+      for (String text : nodes) {
+         var node = ObjectReaders.readJsonNode(text);
+         for (Number expected : expectations) {
+            var reference = AbstractJsonAssert.toBigDecimal(node).compareTo(new BigDecimal(expected.toString())) == 0;
+            assertThat(ExpectedNumber.of(expected).matches(node)).as("%s == %s", text, expected).isEqualTo(reference);
+         }
+      }
+   }
+
    @Test
    void booleanField() {
       assertThatJson(json).asObjectNode().contains("boolean").contains("boolean", true).containsBoolean("boolean");
@@ -179,6 +224,73 @@ class AssertionsTest {
             .containsInstant("timestamp", "2021-06-06T14:35:27.961Z");
    }
 
+   @Test
+   void dateTimeFastPathMatchesJavaTimeModule() {
+      var mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+      var fastPath = new ArrayList<ZonedDateTime>();
+      var viaMapper = new ArrayList<ZonedDateTime>();
+      assertThatJson(json).asObjectNode().containsInstantSatisfying("zonedDateTime", fastPath::add);
+      assertThatJson(json).withObjectMapper(mapper)
+                          .asObjectNode()
+                          .containsInstantSatisfying("zonedDateTime", viaMapper::add);
+      assertThat(fastPath).isEqualTo(viaMapper);
+   }
+
+   @Test
+   void localDateAndOffsetDateTimeFields() {
+      assertThatJsonObject("{\"date\": \"2021-06-06\", \"offsetDateTime\": \"2021-06-06T10:11:12+02:00\"}")
+            .contains("date", LocalDate.of(2021, 6, 6))
+            .containsLocalDate("date", "2021-06-06")
+            .contains("offsetDateTime", OffsetDateTime.of(2021, 6, 6, 8, 11, 12, 0, ZoneOffset.UTC))
+            .containsOffsetDateTimeSatisfying("offsetDateTime", value -> {
+               assertThat(value.getOffset()).isEqualTo(ZoneOffset.UTC);
+            })
+            .containsNoUnassertedFields();
+   }
+
+   @Test
+   void customDateTimePattern() {
+      assertThatJsonObject("{\"date\": \"06.06.2021\", \"dateTime\": \"06.06.2021 10:11\"}")
+            .withDateTimePattern("dd.MM.yyyy")
+            .contains("date", LocalDate.of(2021, 6, 6))
+            .withDateTimePattern("dd.MM.yyyy HH:mm")
+            .contains("dateTime", LocalDateTime.of(2021, 6, 6, 10, 11));
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJsonObject("{\"date\": \"2021-06-06\"}").withDateTimePattern("dd.MM.yyyy")
+                                                                                .containsLocalDate("date"))
+            .withMessage("Field \"date\": Expected field to be parsable as LocalDate, was <\"2021-06-06\">");
+      var mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+      assertThatJsonObject("{\"date\": \"06.06.2021\", \"zoned\": \"06.06.2021 10:11 +02:00\"}")
+            .withObjectMapper(mapper)
+            .withDateTimePattern("dd.MM.yyyy")
+            .contains("date", LocalDate.of(2021, 6, 6))
+            .withDateTimePattern("dd.MM.yyyy HH:mm xxx")
+            .containsOffsetDateTimeSatisfying("zoned", value -> {
+               assertThat(value).isEqualTo(OffsetDateTime.of(2021, 6, 6, 8, 11, 0, 0, ZoneOffset.UTC));
+            });
+   }
+
+   @Test
+   void dateTimeArray() {
+      assertThatJsonArray("[\"2021-06-06T08:11:12Z\", 1622990127]").asInstantArray()
+                                                                 .containsExactly(Instant.parse("2021-06-06T08:11:12Z"),
+                                                                                  Instant.ofEpochSecond(1622990127));
+      assertThatJsonArray("[\"2021-06-06\", \"2021-06-07\"]").asLocalDateArray()
+                                                             .containsExactly(LocalDate.of(2021, 6, 6),
+                                                                              LocalDate.of(2021, 6, 7));
+   }
+
+   @Test
+   void deserializationFeatureDoesNotMutateObjectMapper() {
+      var mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+      assertThatJson(json)
+            .withObjectMapper(mapper)
+            .withDeserializationFeature(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
+            .asObjectNode()
+            .contains("timestamp", Instant.ofEpochMilli(1622990127961L));
+      assertThat(mapper.isEnabled(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS)).isTrue();
+   }
+
    @Test
    void emptyObjectField() {
       assertThatJson(json)
@@ -263,6 +375,38 @@ class AssertionsTest {
             });
    }
 
+   @Test
+   void regexMatching() {
+      var uppercase = Pattern.compile("[A-Z]");
+      assertThatJson(json)
+            .asObjectNode()
+            .containsStringMatching("string", "s.*g")
+            .containsStringMatching("string", Pattern.compile("[a-z]+"))
+            .containsNumberMatching("intNumber", "\\d")
+            .containsArraySatisfying("stringArray", array -> {
+               assertThat(array).containsStringsMatching(uppercase).containsStringsMatching("[ABC]");
+            })
+            .containsArraySatisfying("intNumberArray", array -> {
+               assertThat(array).containsNumbersMatching("[1-3]");
+            });
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJsonArray("[\"A\", \"b\"]").containsStringsMatching(uppercase))
+            .withMessage("Expected value matching regex <[A-Z]> at array position 1, was <\"b\">");
+   }
+
+   @Test
+   void longArray() {
+      var array = assertThatJsonArray("[1, 4294967296, -4294967296]");
+      array.containsExactly(1L, 4294967296L, -4294967296L).asLongArray().containsExactly(1L, 4294967296L, -4294967296L);
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> array.containsExactly(1, 0, 0))
+            .withMessage("Expected <0> at array position 1, was <4294967296>");
+      assertThatExceptionOfType(AssertionError.class).isThrownBy(array::asIntArray);
+      assertThatJsonObject("{\"long\": 4294967296}").contains("long", 4294967296L);
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJsonObject("{\"long\": 4294967296}").contains("long", 0));
+   }
+
    @Test
    void decimalNumberArrayField() {
       assertThatJson(json)
@@ -320,6 +464,291 @@ class AssertionsTest {
             });
    }
 
+   @Test
+   void equalTo() {
+      var expectation = JsonExpectation.compile("""
+            { "string": "string", "intNumber": 1, "emptyArray": [] }
+            """);
+      assertThatJson("""
+            { "intNumber": 1, "emptyArray": [], "string": "string" }
+            """)
+            .isEqualTo(expectation)
+            .isEqualTo("{\"string\": \"string\", \"intNumber\": 1, \"emptyArray\": []}");
+      assertThat(JsonExpectation.compile(expectation.toString())).isSameAs(expectation);
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJson("{\"intNumber\": 2}").isEqualTo(expectation));
+      assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> assertThatJson(json).isEqualTo("{"));
+   }
+
+   @Test
+   void equalToDifferences() {
+      var actual = """
+            { "a": 1, "b": { "c/d": [1, 2, 3] }, "e": "x", "f": [true] }
+            """;
+      var expected = """
+            { "a": 2, "b": { "c/d": [1, 5] }, "e": {}, "g": null, "f": [true] }
+            """;
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJson(actual).isEqualTo(expected))
+            .withMessage(String.join(System.lineSeparator(),
+                                     "Expected JSON to be equal to expected JSON, found differences:",
+                                     "  /a: expected <2>, was <1>",
+                                     "  /b/c~1d: expected array of size <2>, size was <3>",
+                                     "  /b/c~1d/1: expected <5>, was <2>",
+                                     "  /e: expected <{}>, was <\"x\">",
+                                     "  /g: missing, expected <null>"));
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJson(actual).withMaxReportedDifferences(2).isEqualTo(expected))
+            .withMessage(String.join(System.lineSeparator(),
+                                     "Expected JSON to be equal to expected JSON, found differences:",
+                                     "  /a: expected <2>, was <1>",
+                                     "  /b/c~1d: expected array of size <2>, size was <3>",
+                                     "  (stopped after 2 differences)"));
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJson(actual).withMaxReportedDifferences(5).isEqualTo(expected))
+            .withMessageEndingWith("  /g: missing, expected <null>");
+   }
+
+   @Test
+   void renderer() {
+      var json = """
+            { "numbers": [1, 2, 3, 4, 5], "nested": { "a": { "b": {} } }, "text": "abcdefghij" }
+            """;
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJson(json).withRenderer(JsonNodeRenderer.DEFAULT.withMaxElements(2))
+                                                  .isArrayNode())
+            .withMessage("Expected JSON node to be an array, was <{\"numbers\":[1,2,...3 more elements at /numbers],"
+                         + "\"nested\":{\"a\":{\"b\":{}}},...1 more fields at (root)}>");
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJsonArray("[[1, 2], [3, 4, 5]]")
+                  .withRenderer(JsonNodeRenderer.DEFAULT.withMaxDepth(1))
+                  .containsExactly(1, 2, 3))
+            .withMessage("Expected exactly <3> elements, was <2>: [[...2 elements at /0],[...3 elements at /1]]");
+
+      var renderer = JsonNodeRenderer.DEFAULT.withMaxLength(30);
+      var node = ObjectReaders.readJsonNode(json);
+      assertThat(renderer.render(node))
+            .isEqualTo("{\"numbers\":[1,2,3,4,5],\"nested...(truncated after 30 characters at /nested)");
+      assertThat(JsonNodeRenderer.DEFAULT.withMaxLength(5).render(node.get("text")))
+            .isEqualTo("\"abcd...(truncated after 5 characters at (root))");
+      assertThat(JsonNodeRenderer.DEFAULT.render(node)).isEqualTo(node.toString());
+
+      var strings = ObjectReaders.readJsonNode("[\"ab\", \"x\"]");
+      assertThat(JsonNodeRenderer.DEFAULT.withMaxLength(10).render(strings)).isEqualTo("[\"ab\",\"x\"]");
+      assertThat(JsonNodeRenderer.DEFAULT.withMaxLength(4).render(strings))
+            .isEqualTo("[\"ab...(truncated after 4 characters at /0)");
+      assertThat(JsonNodeRenderer.DEFAULT.withMaxLength(5).render(strings))
+            .isEqualTo("[\"ab\"...(truncated after 5 characters at /1)");
+      assertThat(JsonNodeRenderer.DEFAULT.withMaxLength(6).render(ObjectReaders.readJsonNode("{\"a\": 1, \"b\": 2}")))
+            .isEqualTo("{\"a\":1...(truncated after 6 characters at /b)");
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJsonArray("[\"ab\", \"x\"]")
+                  .withRenderer(JsonNodeRenderer.DEFAULT.withMaxLength(5))
+                  .containsExactly("zz"))
+            .withMessage("Expected exactly <1> elements, was <2>: [\"ab\"...(truncated after 5 characters at /1)");
+   }
+
+   @Test
+   void jsonPointer() {
+      assertThatJson(json).at("/object/string").isStringEqualTo("string");
+      assertThatJson(json).at("/intNumberArray/2").isNumberEqualTo(3);
+      assertThatJson(json).at("").isObjectNode();
+      assertThatJson("{ \"a/b\": { \"~\": 1 } }").at("/a~1b/~0").isNumberEqualTo(1);
+      var path = CompiledJsonPath.compile("/object/intNumber");
+      assertThat(CompiledJsonPath.compile("/object/intNumber")).isSameAs(path);
+      assertThatJson(json).at(path).isNumberEqualTo(1);
+      assertThatJson(json)
+            .eachNodeAt("/emptyObjectArray/*", node -> node.isObjectNode())
+            .eachNodeAt("/object/*", node -> node.isNotNull());
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJson(json).at("/object/missing/deeper"))
+            .withMessage("No node at </object/missing/deeper>, deepest existing node is at </object>");
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJson(json).eachNodeAt("/intNumberArray/*", node -> node.isNumberEqualTo(1)))
+            .withMessage("Node at </intNumberArray/1>: Expected JSON node to be a number equal to <1>, was <2>");
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJson(json).eachNodeAt("/emptyArray/*", node -> {}))
+            .withMessage("No nodes at </emptyArray/*>");
+      assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> assertThatJson(json).at("/stringArray/*"));
+      assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> CompiledJsonPath.compile("object"));
+      assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> CompiledJsonPath.compile("/a~2"));
+   }
+
+   @Test
+   void parallelElements() {
+      var array = new StringBuilder("[");
+      for (int i = 0; i < 10_000; i++) {
+         array.append(i > 0 ? "," : "").append("{\"id\":").append(i).append('}');
+      }
+      var json = array.append(']').toString();
+      assertThatJsonArray(json)
+            .inParallel(4, 100)
+            .containsObjectNodesSatisfying(node -> assertThat(node).containsInteger("id"))
+            .containsObjectNodesSatisfying(() -> {
+               var seen = new ArrayList<Integer>();
+               return node -> {
+                  seen.add(node.get("id").intValue());
+                  assertThat(seen).isSorted();
+               };
+            });
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJsonArray(json)
+                  .inParallel(4, 7)
+                  .containsObjectNodesSatisfying(node -> assertThat(node).containsIntSatisfying("id", id -> {
+                     if (id % 1000 == 999) {
+                        throw new AssertionError("Unexpected id " + id);
+                     }
+                  })))
+            .withMessage("10 of 10000 elements did not satisfy the requirements, first at array position 999: "
+                         + "Unexpected id 999");
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJsonArray("[\"a\", 1, \"b\", 2]").inParallel(2, 1)
+                                                                       .containsStringsSatisfying(value -> {}))
+            .withMessage("2 of 4 elements did not satisfy the requirements, first at array position 1: "
+                         + "expected String, was <1>");
+   }
+
+   @Test
+   void jsonLines(@TempDir Path directory) throws IOException {
+      var lines = new StringBuilder();
+      for (int i = 0; i < 1000; i++) {
+         lines.append(i % 100 == 42 ? "{\"id\":-1}" : "{\"id\":" + i + "}").append('\n');
+      }
+      lines.append("[1]\n").append("null\n");
+      var file = Files.writeString(directory.resolve("events.jsonl"), lines);
+      var expectedMessage = String.join(System.lineSeparator(),
+                                        "Expected all records to satisfy the requirements, but 12 of 1002 did not:",
+                                        "  line 43 (byte offset 410): Field \"id\": Expected value matching regex "
+                                        + "<\\d+>, was: <-1>",
+                                        "  line 143 (byte offset 1452): Field \"id\": Expected value matching regex "
+                                        + "<\\d+>, was: <-1>",
+                                        "  (10 more failures not shown)");
+
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJsonLines(file)
+                  .withMaxReportedFailures(2)
+                  .eachObjectSatisfies(record -> record.containsNumberMatching("id", "\\d+")))
+            .withMessage(expectedMessage);
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJsonLines(file)
+                  .withMaxReportedFailures(2)
+                  .inParallel(3, 16)
+                  .eachObjectSatisfies(() -> record -> record.containsNumberMatching("id", "\\d+")))
+            .withMessage(expectedMessage);
+      try (var stream = Files.newInputStream(file)) {
+         assertThatExceptionOfType(AssertionError.class)
+               .isThrownBy(() -> assertThatJsonLines(stream)
+                     .eachObjectSatisfies(record -> record.containsInteger("id")))
+               .withMessageEndingWith(String.join(System.lineSeparator(),
+                                                  "  line 1001 (byte offset 10881): Expected JSON object, was <[1]>",
+                                                  "  line 1002 (byte offset 10885): Expected JSON object, was <null>"));
+      }
+      assertThatJsonLines(new ByteArrayInputStream("{\"a\":1}\n\n{\"a\":2}".getBytes(StandardCharsets.UTF_8)))
+            .inParallel()
+            .eachObjectSatisfies(record -> record.containsInteger("a"));
+   }
+
+   @Test
+   void streamedObject() {
+      assertThatJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))
+            .contains("string", "string")
+            .contains("intNumber", 1)
+            .containsNull("null")
+            .containsObjectSatisfying("object", object -> {
+               assertThat(object).contains("boolean", true);
+            })
+            .verify();
+      var streamed = assertThatJson(new StringReader(json)).contains("intNumber", 2).contains("missing");
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(streamed::verify)
+            .withMessage("Field \"intNumber\": Expected value <2>, was: <1>");
+      var missing = assertThatJson(new StringReader(json)).contains("missing");
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(missing::verify)
+            .withMessage("No field named \"missing\"");
+      var array = assertThatJson(new StringReader("[1, 2]")).contains("string");
+      assertThatExceptionOfType(AssertionError.class).isThrownBy(array::verify).withMessage("Expected JSON object");
+   }
+
+   @Test
+   void chunkedObject() {
+      byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+      var feeder = assertThatJsonChunks()
+            .contains("string", "string")
+            .containsArraySatisfying("intNumberArray", array -> assertThat(array).containsExactly(1, 2, 3))
+            .containsObjectSatisfying("object", object -> {
+               assertThat(object).contains("boolean", true);
+            })
+            .startFeeding();
+      for (int offset = 0; offset < bytes.length; offset += 3) {
+         feeder.feed(ByteBuffer.wrap(bytes, offset, Math.min(3, bytes.length - offset)));
+      }
+      feeder.finish();
+
+      var failing = assertThatJsonChunks().contains("first", 2).contains("second").startFeeding();
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> failing.feed("{\"first\": 1, \"sec".getBytes(StandardCharsets.UTF_8)))
+            .withMessage("Field \"first\": Expected value <2>, was: <1>");
+      assertThatExceptionOfType(IllegalStateException.class).isThrownBy(failing::finish);
+
+      var missing = assertThatJsonChunks().contains("missing").startFeeding();
+      missing.feed("{}".getBytes(StandardCharsets.UTF_8));
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(missing::finish)
+            .withMessage("No field named \"missing\"");
+      var array = assertThatJsonChunks().contains("string").startFeeding();
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> array.feed(ByteBuffer.allocateDirect(1).put((byte) '[').flip()))
+            .withMessage("Expected JSON object");
+      var truncated = assertThatJsonChunks().contains("string").startFeeding();
+      truncated.feed("{\"string\": \"str".getBytes(StandardCharsets.UTF_8));
+      assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(truncated::finish);
+      assertThatJsonChunks().contains("a", 1)
+                            .startFeeding()
+                            .feed("{\"a\": 1} {\"a\": ".getBytes(StandardCharsets.UTF_8))
+                            .feed("2} [".getBytes(StandardCharsets.UTF_8))
+                            .finish();
+
+      var mapper = new ObjectMapper().setNodeFactory(JsonNodeFactory.withExactBigDecimals(true))
+                                     .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                                     .enable(DeserializationFeature.USE_LONG_FOR_INTS);
+      var numbers = "{\"decimal\": 1.10, \"integer\": 1}";
+      Consumer<JsonNode> exactDecimal = node -> assertThat(node.decimalValue()).hasToString("1.10");
+      Consumer<JsonNode> longInteger = node -> assertThat(node.isLong()).isTrue();
+      assertThatJson(new StringReader(numbers)).withObjectMapper(mapper)
+                                               .containsNodeSatisfying("decimal", exactDecimal)
+                                               .containsNodeSatisfying("integer", longInteger)
+                                               .verify();
+      assertThatJsonChunks().withObjectMapper(mapper)
+                            .containsNodeSatisfying("decimal", exactDecimal)
+                            .containsNodeSatisfying("integer", longInteger)
+                            .startFeeding()
+                            .feed(numbers.getBytes(StandardCharsets.UTF_8))
+                            .finish();
+   }
+
+   @Test
+   void jsonFile(@TempDir Path directory) throws IOException {
+      var file = Files.writeString(directory.resolve("actual.json"), json);
+      assertThatJsonFile(file).asObjectNode().contains("string", "string");
+      assertThatJsonObjectFile(file).containsArraySatisfying("intNumberArray", array -> {
+         assertThat(array).containsExactly(1, 2, 3);
+      });
+      var arrayFile = Files.writeString(directory.resolve("array.json"), "[true, false]");
+      assertThatJsonArrayFile(arrayFile).containsExactly(true, false);
+      assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> assertThatJsonArrayFile(file));
+   }
+
+   @Test
+   void mappedFileSegments(@TempDir Path directory) throws IOException {
+      var file = Files.writeString(directory.resolve("actual.json"), json);
+      try (var in = new MappedFileInputStream(file, 7)) {
+         assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(json);
+      }
+   }
+
    @Test
    void unassertedFields() {
       var objectAssert = assertThatJson(json).asObjectNode();
@@ -349,4 +778,174 @@ class AssertionsTest {
             .containsNoUnassertedFields();
    }
 
+   @Test
+   void deepUnassertedFields() {
+      var document = """
+            {"id": 1, "owner": {"name": "alice", "email": "a@example.com"},
+             "items": [{"sku": "x", "qty": 1}, {"sku": "y", "qty": 2}],
+             "meta": {"version": 3}, "extra": true}""";
+      var objectAssert = assertThatJson(document).asObjectNode().withDeepFieldTracking();
+      objectAssert.contains("id", 1)
+                  .containsObjectSatisfying("owner", owner -> assertThat(owner).contains("name", "alice"))
+                  .eachNodeAt("/items/*/sku", sku -> sku.isString());
+      objectAssert.at("/meta").isEqualTo("{\"version\": 3}");
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(objectAssert::containsNoUnassertedFieldsDeeply)
+            .withMessage("Found unasserted fields: <[/owner/email, /items/0/qty, /items/1/qty, /extra]>");
+      objectAssert.contains("extra", true)
+                  .at("/owner/email").isString();
+      objectAssert.eachNodeAt("/items/*/qty", qty -> qty.isInteger());
+      objectAssert.containsNoUnassertedFieldsDeeply();
+      assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> assertThatJson(document).containsNoUnassertedFieldsDeeply());
+   }
+
+   @Test
+   void binaryFormats() throws IOException {
+      var tree = new ObjectMapper().readTree(json);
+      var cbor = new ObjectMapper(new CBORFactory()).writeValueAsBytes(tree);
+      var smile = new ObjectMapper(new SmileFactory()).writeValueAsBytes(tree);
+      assertThatJson(cbor, JsonFormat.CBOR).isEqualTo(json);
+      assertThatJsonObject(new ByteArrayInputStream(smile), JsonFormat.SMILE).contains("string", "string")
+                                                                            .containsArray("intNumberArray");
+      assertThatJsonArray("[1, 2]".getBytes(StandardCharsets.UTF_8), JsonFormat.of("JSON", new JsonFactory()))
+            .containsExactly(1, 2);
+      assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> assertThatJsonArray(cbor, JsonFormat.CBOR))
+            .withMessageStartingWith("Could not parse actual value as JSON array node: ");
+   }
+
+   @Test
+   void unorderedArrayComparison() {
+      var array = assertThatJsonArray("""
+            [{"id": 2}, "a", {"id": 1}, 3, {"id": 1}]""");
+      array.containsExactlyInAnyOrder(JsonExpectation.compile("""
+            [{"id": 1}, 3, {"id": 1}, "a", {"id": 2}]"""));
+      array.containsOnly(JsonExpectation.compile("""
+            [3, "a", {"id": 1}, {"id": 2}]"""));
+      array.containsAll(JsonExpectation.compile("[{\"id\": 2}, 3]"))
+           .containsNone(JsonExpectation.compile("[{\"id\": 3}, \"b\", 3.0]"));
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> array.containsExactlyInAnyOrder(JsonExpectation.compile("""
+                  [{"id": 1}, 3, {"id": 2}, "a", {"id": 3}]""")))
+            .withMessage("Expected array to contain exactly the given elements in any order, found differences:%n"
+                         + "  unexpected <{\"id\":1}> at array position 4%n"
+                         + "  missing <{\"id\":3}> (expected element 4)", new Object[0]);
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> array.containsNone(JsonExpectation.compile("[{\"id\": 1}]")))
+            .withMessage("Expected array to contain none of the given elements, found differences:%n"
+                         + "  unexpected <{\"id\":1}> at array position 2%n"
+                         + "  unexpected <{\"id\":1}> at array position 4", new Object[0]);
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> array.withMaxReportedDifferences(1).containsNone(JsonExpectation.compile("[3, \"a\"]")))
+            .withMessage("Expected array to contain none of the given elements, found differences:%n"
+                         + "  unexpected <\"a\"> at array position 1%n"
+                         + "  (stopped after 1 differences)", new Object[0]);
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> array.withMaxReportedDifferences(2).containsNone(JsonExpectation.compile("[3, \"a\"]")))
+            .withMessageEndingWith("  unexpected <3> at array position 3");
+      var mapper = new ObjectMapper();
+      var large = mapper.createArrayNode();
+      var expected = new ArrayList<JsonNode>();
+      for (int i = 0; i < 200_000; i++) {
+         int id = 199_999 - i;
+         large.addObject().put("id", i).put("name", "element " + i);
+         expected.add(mapper.createObjectNode().put("id", id).put("name", "element " + id));
+      }
+      assertThat(large).containsExactlyInAnyOrder(expected.toArray(JsonNode[]::new));
+   }
+
+   @Test
+   void lenientComparison() {
+      var actual = """
+            {"id": "abc", "created": "2021-06-01", "total": 10.004,
+             "items": [{"sku": "y", "qty": 2.0, "tags": ["b", "a"]}, {"sku": "x", "qty": 1, "extra": true}]}""";
+      var expected = """
+            {"id": "xyz", "total": 10,
+             "items": [{"sku": "x", "qty": 1}, {"sku": "y", "qty": 2, "tags": ["a", "b"]}]}""";
+      var comparison = JsonComparison.STRICT.ignoringArrayOrder()
+                                            .allowingExtraFieldsAt("/items/*")
+                                            .comparingNumbersByValueAt("/items")
+                                            .withNumericToleranceAt("/total", 0.01)
+                                            .ignoringPaths("/id", "/created");
+      assertThatJson(actual).withComparison(comparison).isEqualTo(expected);
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJson(actual).withComparison(comparison.withNumericToleranceAt("/total", 0.001))
+                                                    .isEqualTo(expected))
+            .withMessage("Expected JSON to be equal to expected JSON, found differences:%n"
+                         + "  /total: expected <10>, was <10.004>", new Object[0]);
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> assertThatJson(actual).withComparison(JsonComparison.STRICT.ignoringArrayOrder()
+                                                                                         .comparingNumbersByValue()
+                                                                                         .ignoringPaths("/id",
+                                                                                                        "/created",
+                                                                                                        "/total"))
+                                                    .isEqualTo(expected))
+            .withMessage("Expected JSON to be equal to expected JSON, found differences:%n"
+                         + "  /items: expected element <{...} (2 fields)> (position 0) not found%n"
+                         + "  /items: unexpected element <{...} (3 fields)> at position 1", new Object[0]);
+      assertThatJson("[{\"a\": 1, \"b\": 2, \"c\": 3}, {\"a\": 1, \"b\": 3}]")
+            .withComparison(JsonComparison.STRICT.ignoringArrayOrder().allowingExtraFields())
+            .isEqualTo("[{\"a\": 1}, {\"a\": 1, \"b\": 2}]");
+   }
+
+   @Test
+   void structuralFingerprints() throws IOException {
+      var mapper = new ObjectMapper();
+      var node = mapper.readTree("{\"a\": [1, \"x\", {\"b\": null}], \"c\": 1.5}");
+      assertThat(JsonFingerprints.of(node))
+            .isEqualTo(JsonFingerprints.of(mapper.readTree("{\"c\": 1.5, \"a\": [1, \"x\", {\"b\": null}]}")))
+            .isNotEqualTo(JsonFingerprints.of(mapper.readTree("{\"a\": [\"x\", 1, {\"b\": null}], \"c\": 1.5}")))
+            .isNotEqualTo(JsonFingerprints.of(mapper.readTree("{\"a\": [1, \"x\", {\"b\": 0}], \"c\": 1.5}")));
+      assertThat(JsonFingerprints.memoized(node)).isNull();
+      var expectation = JsonExpectation.compile("{\"c\": 1.5, \"a\": [1, \"x\", {\"b\": null}]}");
+      assertThat(JsonFingerprints.memoized(expectation.node())).isEqualTo(JsonFingerprints.of(node));
+      assertThat(JsonFingerprints.memoized(expectation.node().get("a"))).isEqualTo(JsonFingerprints.of(node.get("a")));
+      assertThat(node).isEqualTo(expectation);
+      ParsedJsonCache.enable(16, 1024);
+      try {
+         assertThatExceptionOfType(AssertionError.class)
+               .isThrownBy(() -> assertThatJson("{\"a\": [1, \"x\", {\"b\": 0}], \"c\": 1.5}").isEqualTo(expectation))
+               .withMessageContaining("/a/2/b: expected <null>, was <0>");
+      } finally {
+         ParsedJsonCache.disable();
+      }
+   }
+
+   @Test
+   void snapshots(@TempDir Path directory) throws IOException {
+      var previousDirectory = JsonSnapshots.directory();
+      JsonSnapshots.setDirectory(directory);
+      try {
+         var file = directory.resolve("orders/first.json");
+         assertThatExceptionOfType(AssertionError.class)
+               .isThrownBy(() -> assertThatJson("{}").matchesSnapshot("orders/first"))
+               .withMessage("Expected snapshot <%s> to exist, run with -D%s=true to create it",
+                            file,
+                            JsonSnapshots.UPDATE_PROPERTY);
+         assertThat(file).doesNotExist();
+         JsonSnapshots.setUpdating(true);
+         assertThatJson("{\"b\": [1, 2], \"a\": \"x\"}").matchesSnapshot("orders/first");
+         JsonSnapshots.setUpdating(false);
+         assertThat(Files.readString(file)).endsWith("\n{\"a\":\"x\",\"b\":[1,2]}").startsWith("#sha256:");
+         assertThatJson("{\"a\": \"x\", \"b\": [1, 2]}").matchesSnapshot("orders/first");
+         assertThatExceptionOfType(AssertionError.class)
+               .isThrownBy(() -> assertThatJson("{\"a\": \"y\", \"b\": [1, 2]}").matchesSnapshot("orders/first"))
+               .withMessage("Expected JSON to match snapshot <%s>, found differences:%n"
+                            + "  /a: expected <\"x\">, was <\"y\">",
+                            file);
+         assertThatJson("{\"a\": \"x\", \"b\": [2, 1]}").withComparison(JsonComparison.STRICT.ignoringArrayOrder())
+                                                       .matchesSnapshot("orders/first");
+         JsonSnapshots.setUpdating(true);
+         assertThatJson("{\"a\": \"y\"}").matchesSnapshot("orders/first");
+         JsonSnapshots.setUpdating(false);
+         assertThatJson("{\"a\": \"y\"}").matchesSnapshot("orders/first");
+         assertThatExceptionOfType(IllegalArgumentException.class)
+               .isThrownBy(() -> assertThatJson("{}").matchesSnapshot("../outside"));
+      } finally {
+         JsonSnapshots.setDirectory(previousDirectory);
+         JsonSnapshots.setUpdating(false);
+      }
+   }
+
 }
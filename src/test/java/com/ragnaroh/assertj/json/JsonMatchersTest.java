@@ -0,0 +1,56 @@
+package com.ragnaroh.assertj.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+class JsonMatchersTest {
+
+   @Test
+   void filtering() {
+      var isActiveWidget = JsonMatchers.object().contains("type", "widget").contains("active", true);
+      List<JsonNode> documents = List.of(ObjectReaders.readJsonNode("{\"type\": \"widget\", \"active\": true}"),
+                                         ObjectReaders.readJsonNode("{\"type\": \"widget\", \"active\": false}"),
+                                         ObjectReaders.readJsonNode("{\"type\": \"gadget\", \"active\": true}"),
+                                         ObjectReaders.readJsonNode("[\"widget\"]"));
+
+      assertThat(documents.stream().filter(isActiveWidget).collect(Collectors.toList()))
+            .containsExactly(documents.get(0));
+   }
+
+   @Test
+   void matchResult() {
+      var matcher = JsonMatchers.object()
+                                .contains("id", 1)
+                                .contains("tags", JsonMatchers.array().containsExactly("a", "b"))
+                                .contains("owner", JsonMatchers.object().contains("name", "bob"))
+                                .containsNoUnassertedFields();
+
+      assertThat(matcher.match("{\"id\": 1, \"tags\": [\"a\", \"b\"], \"owner\": {\"name\": \"bob\"}}").isMatch())
+            .isTrue();
+      var result = matcher.match("{\"id\": 2, \"tags\": [\"a\"], \"owner\": {\"name\": \"alice\"}, \"x\": 0}");
+      assertThat(result.isMatch()).isFalse();
+      assertThat(result.failures()).containsExactly("Field \"id\": Expected value <1>, was: <2>",
+                                                    "Field \"tags\": Expected exactly <2> elements, was <1>: [\"a\"]",
+                                                    "Field \"owner\": Field \"name\": Expected value <bob>, was: <alice>",
+                                                    "Found additional fields: <[x]>");
+      assertThat(matcher.match("[]").failures()).containsExactly("Expected JSON node to be an object, was <[]>");
+   }
+
+   @Test
+   void matchersAreImmutable() {
+      var base = JsonMatchers.node().isNumber();
+      var equalToOne = base.isNumberEqualTo(1);
+
+      assertThat(base.matches("2")).isTrue();
+      assertThat(equalToOne.matches("2")).isFalse();
+      assertThat(equalToOne.matches("1.0")).isTrue();
+      assertThat(JsonMatchers.node().matches("null")).isTrue();
+   }
+
+}
@@ -0,0 +1,65 @@
+package com.ragnaroh.assertj.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+
+class JsonSoftAssertionsTest {
+
+   private static final String JSON = """
+         {
+            "id": 1,
+            "name": "widget",
+            "tags": ["a", "b"],
+            "owner": {"name": "alice", "active": true}
+         }
+         """;
+
+   @Test
+   void passingAssertions() {
+      JsonSoftAssertions.assertSoftly(softly -> {
+         softly.assertThatJsonObject(JSON)
+               .contains("id", 1)
+               .contains("name", "widget")
+               .containsArray("tags")
+               .containsObject("owner")
+               .containsNoUnassertedFields();
+         softly.assertThatJson(JSON).at("/tags").asArrayNode().containsExactly("a", "b");
+         softly.assertThatJson(JSON).at("/owner/active").isBooleanEqualTo(true);
+      });
+   }
+
+   @Test
+   void collectsAllFailures() {
+      var softly = new JsonSoftAssertions();
+      softly.assertThatJsonObject(JSON)
+            .contains("id", 2)
+            .containsString("name")
+            .contains("missing")
+            .containsNoUnassertedFields();
+      softly.assertThatJson(JSON).at("/tags").asArrayNode().hasSize(3).containsStringsMatching("[a-z]");
+      softly.assertThatJson(JSON).at("/owner").asObjectNode().contains("name", "bob");
+
+      assertThat(softly.failures()).containsExactly("Field \"id\": Expected value <2>, was: <1>",
+                                                    "No field named \"missing\"",
+                                                    "Found additional fields: <[tags, owner]>",
+                                                    "Node at </tags>: Expected array size <3>, was <2>",
+                                                    "Node at </owner>: Field \"name\": Expected value <bob>, was: <alice>");
+      assertThatExceptionOfType(AssertionError.class).isThrownBy(softly::assertAll)
+                                                     .withMessageStartingWith("Expected all JSON assertions to pass, "
+                                                                              + "but 5 failed:")
+                                                     .withMessageContaining("  Node at </tags>: Expected array size");
+   }
+
+   @Test
+   void skipsChecksOnUnavailableNodes() {
+      var softly = new JsonSoftAssertions();
+      softly.assertThatJson(JSON).at("/owner/missing").isString().isStringEqualTo("x");
+      softly.assertThatJson(JSON).at("/name").asObjectNode().contains("id").containsNoUnassertedFields();
+
+      assertThat(softly.failures()).containsExactly("No node at </owner/missing>, deepest existing node is at </owner>",
+                                                    "Node at </name>: Expected JSON node to be an object, was <\"widget\">");
+   }
+
+}
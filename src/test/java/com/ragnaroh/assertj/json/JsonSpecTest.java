@@ -0,0 +1,84 @@
+package com.ragnaroh.assertj.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+class JsonSpecTest {
+
+   private final JsonSpec spec = JsonSpec.builder()
+                                         .contains("id", 1)
+                                         .contains("name", "widget")
+                                         .containsStringMatching("code", "[A-Z]{3}")
+                                         .containsNumber("price", "9.50")
+                                         .contains("weight", new BigDecimal("0.25"))
+                                         .contains("active", true)
+                                         .containsNull("deleted")
+                                         .containsEmptyArray("tags")
+                                         .containsNodeSatisfying("dimensions", JsonSpecTest::hasTwoFields)
+                                         .containsNoUnassertedFields()
+                                         .build();
+
+   private static void hasTwoFields(JsonNode node) {
+      if (node.size() != 2) {
+         throw new AssertionError("Expected two fields");
+      }
+   }
+
+   @Test
+   void validDocument() {
+      var json = """
+            {
+               "id": 1,
+               "name": "widget",
+               "code": "ABC",
+               "price": 9.5,
+               "weight": 0.25,
+               "active": true,
+               "deleted": null,
+               "tags": [],
+               "dimensions": { "w": 1, "h": 2 }
+            }
+            """;
+      assertThat(spec.matches(json)).isTrue();
+      assertThat(spec.validate(json.getBytes(StandardCharsets.UTF_8))).isEmpty();
+      spec.assertValid(ObjectReaders.readJsonNode(json));
+   }
+
+   @Test
+   void invalidDocument() {
+      var json = """
+            {
+               "id": "1",
+               "name": "gadget",
+               "code": "abc",
+               "price": 9.5,
+               "weight": 0.25,
+               "active": true,
+               "tags": [1],
+               "dimensions": {},
+               "extra": 1
+            }
+            """;
+      assertThat(spec.matches(json)).isFalse();
+      assertThat(spec.validate(json)).containsExactly("Field \"id\": Expected integral number, was: <\"1\">",
+                                                      "Field \"name\": Expected value <widget>, was: <gadget>",
+                                                      "Field \"code\": Expected value matching regex <[A-Z]{3}>, was: <abc>",
+                                                      "Expected field named \"deleted\"",
+                                                      "Field \"tags\": Expected empty array, was: <[1]>",
+                                                      "Field \"dimensions\": Expected two fields",
+                                                      "Found additional fields: <[extra]>");
+      assertThatExceptionOfType(AssertionError.class)
+            .isThrownBy(() -> spec.assertValid("[]"))
+            .withMessage(String.join(System.lineSeparator(),
+                                     "Expected JSON to satisfy spec, found failures:",
+                                     "  Expected JSON object, was: <[]>"));
+   }
+
+}
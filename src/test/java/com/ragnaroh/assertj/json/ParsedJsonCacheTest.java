@@ -0,0 +1,68 @@
+package com.ragnaroh.assertj.json;
+
+import static com.ragnaroh.assertj.json.Assertions.assertThatJson;
+import static com.ragnaroh.assertj.json.Assertions.assertThatJsonArray;
+import static com.ragnaroh.assertj.json.Assertions.assertThatJsonObject;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParsedJsonCacheTest {
+
+   private final String json = """
+         {
+            "id": 1,
+            "object": { "string": "string" },
+            "array": [1, 2, 3]
+         }
+         """;
+
+   @BeforeEach
+   void enableCache() {
+      ParsedJsonCache.enable(10, 10_000);
+   }
+
+   @AfterEach
+   void disableCache() {
+      ParsedJsonCache.disable();
+   }
+
+   @Test
+   void repeatedAssertionsParseOnce() {
+      assertThatJson(json).asObjectNode().contains("id", 1);
+      assertThatJsonObject(json).containsObject("object");
+      assertThatJson(new String(json)).asObjectNode().containsArray("array");
+      assertThat(ParsedJsonCache.missCount()).isEqualTo(1);
+      assertThat(ParsedJsonCache.hitCount()).isEqualTo(2);
+   }
+
+   @Test
+   void cachedTreesAreReadOnly() {
+      assertThatJson(json).asObjectNode().containsObjectSatisfying("object", object -> {
+         assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> object.put("string", 1));
+      });
+      assertThatJson(json).asObjectNode().containsArraySatisfying("array", array -> {
+         assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> array.add(4));
+      });
+   }
+
+   @Test
+   void documentsHeavierThanTheCacheAreNotCached() {
+      ParsedJsonCache.enable(10, 10);
+      assertThatJson(json).isObjectNode();
+      assertThatJson(json).isObjectNode();
+      assertThat(ParsedJsonCache.missCount()).isEqualTo(2);
+      assertThat(ParsedJsonCache.hitCount()).isZero();
+   }
+
+   @Test
+   void wrongRootTypeIsStillReported() {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> assertThatJsonArray(json))
+            .withMessageStartingWith("Could not parse actual value as JSON array node");
+   }
+
+}